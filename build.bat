@@ -11,18 +11,19 @@ set "PATH=%JAVA_HOME%;%MAVEN_HOME%;%PATH%"
 REM Check for OS type
 set "OS=%OS%"
 
-REM Run Maven build
+REM Run Maven build and keep its exit code
 call mvn install
+set "EXIT_CODE=%ERRORLEVEL%"
 
 REM Check if Maven build was successful
-if %ERRORLEVEL% NEQ 0 (
+if not "%EXIT_CODE%"=="0" (
     if "%OS%"=="Windows_NT" (
         echo [1m[31m--------------- BUILD FAILED DURING MAVEN INSTALL ---------------[0m
     ) else (
         echo -e "\033[1m\033[31m--------------- BUILD FAILED DURING MAVEN INSTALL ---------------\033[0m"
     )
     endlocal
-    exit /b 1
+    exit /b %EXIT_CODE%
 )
 
 REM Print the prompt message in yellow
@@ -73,6 +74,7 @@ findstr /i "useLocalJar" configuration.properties >nul || echo useLocalJar=%useL
 
 REM Replace the original configuration file with the updated one
 move /Y "%tempConfig%" configuration.properties >nul
+if errorlevel 1 set "EXIT_CODE=1"
 
 REM Inform the user about the recorded input
 if "%useLocalJar%"=="true" (
@@ -89,36 +91,23 @@ if "%useLocalJar%"=="true" (
     )
 )
 
-REM Store the exit code of the previous command
-set "BUILD_SUCCESS=1"
-
-if "%OS%"=="Windows_NT" (
-    REM Enable ANSI escape codes in Windows Terminal
-    echo [1m[33m============== WAIT!!  UNIQUE ID VALIDATION IS IN-PROGRESS ==============[0m
-) else (
-    REM Print wait message for UNIX-like systems
-    echo -e "\033[1m\033[33m============== WAIT!!  UNIQUE ID VALIDATION IS IN-PROGRESS ==============\033[0m"
-)
-
-mvn exec:java -Pduplicate-checker
-set "EXIT_CODE=%ERRORLEVEL%"
-
-if %EXIT_CODE% NEQ 0 (
+REM Unique ID and visibility validation ran as part of the Maven install above
+if not "%EXIT_CODE%"=="0" (
     if "%OS%"=="Windows_NT" (
         echo [1m[31m--------------- BUILD FAILED ---------------[0m
-        echo [1m[31m-------- SYNC WILL FAIL UNTIL UNIQUE IDs ARE CORRECTED --------[0m
     ) else (
         echo -e "\033[1m\033[31m--------------- BUILD FAILED ---------------\033[0m"
-        echo -e "\033[1m\033[31m-------- Sync will fail until unique Ids are corrected --------\033[0m"
     )
+    endlocal
+    exit /b %EXIT_CODE%
+)
+
+if "%OS%"=="Windows_NT" (
+    echo [1m[32m--------------- BUILD SUCCESS ---------------[0m
+    echo [1m[32m--------- NO DUPLICATE UNIQUE ID IS FOUND. GOOD TO GO. ---------[0m
 ) else (
-    if "%OS%"=="Windows_NT" (
-        echo [1m[32m--------------- BUILD SUCCESS ---------------[0m
-        echo [1m[32m--------- NO DUPLICATE UNIQUE ID IS FOUND. GOOD TO GO. ---------[0m
-    ) else (
-        echo -e "\033[1m\033[32m--------------- BUILD SUCCESS ---------------\033[0m"
-        echo -e "\033[1m\033[32m--------- NO DUPLICATE UNIQUE ID IS FOUND. GOOD TO GO. ---------\033[0m"
-    )
+    echo -e "\033[1m\033[32m--------------- BUILD SUCCESS ---------------\033[0m"
+    echo -e "\033[1m\033[32m--------- NO DUPLICATE UNIQUE ID IS FOUND. GOOD TO GO. ---------\033[0m"
 )
 
 endlocal
@@ -49,12 +49,5 @@ else
     echo -e "${OS/Darwin/\033[1m\033[32m}============== Recorded input as NO, hence we'll download the jar from cloud and use it. ============== \033[0m"
 fi
 
-# Print waiting message for unique ID validation
-echo -e "${OS/Darwin/\033[1m\033[33m}============== WAIT!!  UNIQUE ID VALIDATION IS IN-PROGRESS ============== \033[0m"
-
-# Run Maven compile and exec:java command
-if ! JAVA_HOME=/Applications/SimplifyQA-CodeEditor.app/Contents/Resources/app/resources/jdk/Contents/Home /Applications/SimplifyQA.app/Contents/dist/agent/libs/apache-maven-3.9.9/bin/mvn compile exec:java -Pduplicate-checker; then
-    echo -e "${OS/Darwin/\033[1m\033[31m}--------------- BUILD FAILED ---------------\033[0m\n-------- Sync will fail until unique Ids are corrected --------"
-else
-    echo -e "${OS/Darwin/\033[1m\033[32m}--------------- BUILD SUCCESS ---------------\033[0m\n--------- NO DUPLICATE UNIQUE ID IS FOUND. GOOD TO GO. ---------"
-fi
+# Unique ID and visibility validation ran as part of the Maven install above
+echo -e "${OS/Darwin/\033[1m\033[32m}--------------- BUILD SUCCESS ---------------\033[0m\n--------- NO DUPLICATE UNIQUE ID IS FOUND. GOOD TO GO. ---------"
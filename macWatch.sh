@@ -0,0 +1,3 @@
+if ! JAVA_HOME=/Applications/SimplifyQA-CodeEditor.app/Contents/Resources/app/resources/jdk/Contents/Home /Applications/SimplifyQA-CodeEditor.app/Contents/Resources/app/resources/maven/bin/mvn compile exec:java -Pwatch; then
+    echo -e "${OS/Darwin/\033[1m\033[31m}============================ WATCH MODE STOPPED.. REFER ABOVE ERROR/INFO IN LOGS ===================================="
+fi
@@ -1,22 +1,41 @@
 package com.simplifyqa.codeeditor.debugconsole;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 
+/**
+ * Prints the agent's debug log stream. Without arguments it reads the plain line stream on
+ * port 4041. {@code --framed [host] [port] [level] [loggerPrefix] [file]} subscribes to a
+ * {@link LogStreamServer} instead (started in the plugin with -Dcodeeditor.logStream.port),
+ * reconnecting when the connection drops and optionally writing to a file.
+ */
 public class ListenStream {
     public static void main(String[] args) {
+        if (args.length > 0 && "--framed".equals(args[0])) {
+            listenFramed(args);
+            return;
+        }
         String host = "localhost";
         int port = 4041;
 
         try (Socket socket = new Socket(host, port);
-             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()))) {
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()), 1 << 16);
+             Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16)) {
 
             System.out.println("Connected to the server. Listening for logs...");
 
             String line;
             while ((line = in.readLine()) != null) {
-                System.out.println(line);
+                out.write(line);
+                out.write(System.lineSeparator());
+                if (!in.ready()) out.flush();
             }
 
         } catch (Exception e) {
@@ -24,5 +43,25 @@ public class ListenStream {
             System.err.println("Make sure that host is running and you have authority to connect.");
         }
     }
-}
 
+    private static void listenFramed(String[] args) {
+        String host = args.length > 1 ? args[1] : "localhost";
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : 4042;
+        Level level = args.length > 3 ? Level.parse(args[3]) : Level.INFO;
+        String loggerPrefix = args.length > 4 ? args[4] : "";
+        try (Writer out = args.length > 5
+                ? new BufferedWriter(new OutputStreamWriter(new FileOutputStream(args[5], true), StandardCharsets.UTF_8), 1 << 20)
+                : new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+             LogStreamClient client = new LogStreamClient(host, port, level, loggerPrefix, LogStreamClient.writingTo(out))) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    client.close();
+                } catch (Exception ignored) {
+                }
+            }));
+            client.run();
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+        }
+    }
+}
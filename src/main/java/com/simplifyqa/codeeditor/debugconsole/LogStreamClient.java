@@ -0,0 +1,107 @@
+package com.simplifyqa.codeeditor.debugconsole;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Subscribes to a {@link LogStreamServer} and hands every received batch to a sink.
+ * Lost connections are retried with exponential backoff until the client is closed.
+ */
+public class LogStreamClient implements Runnable, Closeable {
+    private static final Logger logger = Logger.getLogger(LogStreamClient.class.getName());
+    private static final int MAX_FRAME_BYTES = 64 << 20;
+    private static final long MAX_BACKOFF_MILLIS = 30000;
+
+    private final String host;
+    private final int port;
+    private final Level minLevel;
+    private final String loggerPrefix;
+    private final Consumer<List<LogStreamRecord>> sink;
+    private volatile boolean closed;
+    private volatile SocketChannel current;
+
+    public LogStreamClient(String host, int port, Level minLevel, String loggerPrefix, Consumer<List<LogStreamRecord>> sink) {
+        this.host = host;
+        this.port = port;
+        this.minLevel = minLevel;
+        this.loggerPrefix = loggerPrefix == null ? "" : loggerPrefix;
+        this.sink = sink;
+    }
+
+    /**
+     * Sink writing one line per record and flushing once per batch.
+     */
+    public static Consumer<List<LogStreamRecord>> writingTo(Writer out) {
+        return records -> {
+            try {
+                for (LogStreamRecord record : records) {
+                    out.write(record.toString());
+                    out.write(System.lineSeparator());
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to write logs: " + e.getMessage(), e);
+            }
+        };
+    }
+
+    @Override
+    public void run() {
+        long backoff = 500;
+        while (!closed) {
+            try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(host, port))) {
+                current = channel;
+                logger.info("Connected to " + host + ":" + port + ". Listening for logs...");
+                backoff = 500;
+                channel.write(subscriptionRequest());
+                DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+                while (!closed) {
+                    int length = in.readInt();
+                    if (length < 0 || length > MAX_FRAME_BYTES) throw new IOException("Invalid frame length: " + length);
+                    byte[] payload = new byte[length];
+                    in.readFully(payload);
+                    sink.accept(LogStreamRecord.decodeAll(payload));
+                }
+            } catch (IOException e) {
+                if (closed) break;
+                logger.warning("Log stream disconnected: " + e.getMessage() + ", retrying in " + backoff + " ms");
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private ByteBuffer subscriptionRequest() {
+        byte[] prefix = loggerPrefix.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer request = ByteBuffer.allocate(12 + prefix.length)
+                .putInt(8 + prefix.length)
+                .putInt(minLevel.intValue())
+                .putInt(prefix.length)
+                .put(prefix);
+        return request.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        SocketChannel channel = current;
+        if (channel != null) channel.close();
+    }
+}
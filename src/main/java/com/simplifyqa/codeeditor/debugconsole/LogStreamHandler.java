@@ -0,0 +1,47 @@
+package com.simplifyqa.codeeditor.debugconsole;
+
+import java.io.IOException;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Publishes java.util.logging records to a {@link LogStreamServer}.
+ */
+public class LogStreamHandler extends Handler {
+    private final LogStreamServer server;
+
+    public LogStreamHandler(LogStreamServer server) {
+        this.server = server;
+        setFormatter(new SimpleFormatter());
+    }
+
+    /**
+     * Starts a server on the port and streams the logger's records through it.
+     */
+    public static LogStreamServer install(Logger logger, int port, int replayCapacity) throws IOException {
+        LogStreamServer server = LogStreamServer.start(port, replayCapacity);
+        logger.addHandler(new LogStreamHandler(server));
+        return server;
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) return;
+        server.publish(new LogStreamRecord(record.getLevel().intValue(), record.getLoggerName(), getFormatter().formatMessage(record)));
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.close();
+        } catch (IOException e) {
+            reportError(e.getMessage(), e, 0);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.simplifyqa.codeeditor.debugconsole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * One streamed log record. On the wire a frame is an int payload length followed by any
+ * number of records, each an int level and the length-prefixed UTF-8 logger name and message.
+ */
+public record LogStreamRecord(int level, String loggerName, String message) {
+
+    public byte[] encode() {
+        byte[] name = loggerName == null ? new byte[0] : loggerName.getBytes(StandardCharsets.UTF_8);
+        byte[] text = message == null ? new byte[0] : message.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(12 + name.length + text.length)
+                .putInt(level)
+                .putInt(name.length).put(name)
+                .putInt(text.length).put(text)
+                .array();
+    }
+
+    public static List<LogStreamRecord> decodeAll(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        List<LogStreamRecord> records = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            int level = buffer.getInt();
+            String name = string(buffer);
+            String text = string(buffer);
+            records.add(new LogStreamRecord(level, name, text));
+        }
+        return records;
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return levelName(level) + " " + loggerName + ": " + message;
+    }
+
+    private static String levelName(int level) {
+        for (Level known : new Level[]{Level.SEVERE, Level.WARNING, Level.INFO, Level.CONFIG, Level.FINE, Level.FINER, Level.FINEST}) {
+            if (known.intValue() == level) return known.getName();
+        }
+        return String.valueOf(level);
+    }
+}
@@ -0,0 +1,264 @@
+package com.simplifyqa.codeeditor.debugconsole;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Non-blocking log streaming server. Records published from any thread are queued and
+ * picked up by a single selector thread, which sends each subscriber one frame per batch
+ * holding only the records matching its filter. A subscriber opens with a request frame
+ * carrying its minimum level and logger-name prefix, and first receives the matching part
+ * of a bounded replay buffer so late joiners see recent context.
+ * <p>
+ * A subscriber that falls more than {@value #MAX_QUEUED_BYTES} bytes behind loses frames
+ * rather than slowing the publishers down, and one sending a malformed request is dropped
+ * without affecting the others.
+ * <p>
+ * Step logs carry test data, so the server only listens on the loopback interface unless
+ * an address is given explicitly.
+ */
+public class LogStreamServer implements Closeable {
+    private static final Logger logger = Logger.getLogger(LogStreamServer.class.getName());
+    static final int MAX_REQUEST_BYTES = 4096;
+    private static final int MAX_QUEUED_BYTES = 8 << 20;
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final BlockingQueue<LogStreamRecord> incoming;
+    private final ArrayDeque<Encoded> replay = new ArrayDeque<>();
+    private final int replayCapacity;
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private record Encoded(LogStreamRecord record, byte[] bytes) {
+    }
+
+    private LogStreamServer(ServerSocketChannel serverChannel, Selector selector, int replayCapacity) {
+        this.serverChannel = serverChannel;
+        this.selector = selector;
+        this.replayCapacity = replayCapacity;
+        this.incoming = new ArrayBlockingQueue<>(Math.max(1024, replayCapacity));
+        this.worker = new Thread(this::loop, "codeeditor-log-stream");
+        worker.setDaemon(true);
+    }
+
+    public static LogStreamServer start(int port, int replayCapacity) throws IOException {
+        return start(InetAddress.getLoopbackAddress(), port, replayCapacity);
+    }
+
+    public static LogStreamServer start(InetAddress bindAddress, int port, int replayCapacity) throws IOException {
+        ServerSocketChannel serverChannel = ServerSocketChannel.open();
+        Selector selector = Selector.open();
+        try {
+            serverChannel.bind(new InetSocketAddress(bindAddress, port));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+        LogStreamServer server = new LogStreamServer(serverChannel, selector, replayCapacity);
+        server.worker.start();
+        return server;
+    }
+
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Records lost because the publish queue was full.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public void publish(LogStreamRecord record) {
+        if (!running) return;
+        if (!incoming.offer(record)) {
+            dropped.incrementAndGet();
+        } else if (wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    private void loop() {
+        List<LogStreamRecord> drained = new ArrayList<>();
+        List<Encoded> batch = new ArrayList<>();
+        while (running) {
+            try {
+                selector.select();
+                wakeupPending.set(false);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+                incoming.drainTo(drained);
+                if (drained.isEmpty()) continue;
+                for (LogStreamRecord record : drained) {
+                    Encoded encoded = new Encoded(record, record.encode());
+                    batch.add(encoded);
+                    replay.addLast(encoded);
+                    if (replay.size() > replayCapacity) replay.removeFirst();
+                }
+                for (SelectionKey key : selector.keys()) {
+                    if (key.attachment() instanceof Subscriber subscriber && subscriber.subscribed) {
+                        try {
+                            subscriber.send(batch);
+                        } catch (RuntimeException e) {
+                            subscriber.close();
+                        }
+                    }
+                }
+                drained.clear();
+                batch.clear();
+            } catch (IOException | RuntimeException e) {
+                if (running) logger.log(Level.WARNING, "Log stream server error: " + e.getMessage());
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) throws IOException {
+        if (!key.isValid()) return;
+        if (key.isAcceptable()) {
+            SocketChannel channel = serverChannel.accept();
+            if (channel == null) return;
+            channel.configureBlocking(false);
+            SelectionKey subscriberKey = channel.register(selector, SelectionKey.OP_READ);
+            subscriberKey.attach(new Subscriber(channel, subscriberKey));
+            return;
+        }
+        Subscriber subscriber = (Subscriber) key.attachment();
+        try {
+            if (key.isReadable() && subscriber.readRequest()) {
+                subscriber.send(new ArrayList<>(replay));
+            }
+            if (key.isValid() && key.isWritable()) {
+                subscriber.flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.FINE, "Dropping log stream subscriber: " + e);
+            subscriber.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            worker.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+        serverChannel.close();
+    }
+
+    private static class Subscriber {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ByteBuffer request = ByteBuffer.allocate(MAX_REQUEST_BYTES);
+        private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+        private long queuedBytes;
+        private int minLevel;
+        private String loggerPrefix = "";
+        private boolean subscribed;
+
+        Subscriber(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        /**
+         * Reads the subscription request; true once it is complete.
+         */
+        boolean readRequest() throws IOException {
+            if (subscribed) {
+                request.clear();
+                if (channel.read(request) < 0) throw new EOFException();
+                return false;
+            }
+            if (channel.read(request) < 0) throw new EOFException();
+            if (request.position() < 4) return false;
+            int length = request.getInt(0);
+            if (length < 8 || length > MAX_REQUEST_BYTES - 4) throw new IOException("Invalid subscription request");
+            if (request.position() < 4 + length) return false;
+            request.flip().position(4);
+            minLevel = request.getInt();
+            int prefixLength = request.getInt();
+            if (prefixLength < 0 || prefixLength > length - 8) throw new IOException("Invalid subscription request");
+            byte[] prefix = new byte[prefixLength];
+            request.get(prefix);
+            loggerPrefix = new String(prefix, StandardCharsets.UTF_8);
+            subscribed = true;
+            return true;
+        }
+
+        void send(List<Encoded> records) {
+            int total = 0;
+            for (Encoded encoded : records) {
+                if (accepts(encoded.record())) total += encoded.bytes().length;
+            }
+            if (total == 0 || queuedBytes + total > MAX_QUEUED_BYTES) return;
+            ByteBuffer frame = ByteBuffer.allocate(4 + total).putInt(total);
+            for (Encoded encoded : records) {
+                if (accepts(encoded.record())) frame.put(encoded.bytes());
+            }
+            out.addLast(frame.flip());
+            queuedBytes += frame.capacity();
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+
+        void flush() throws IOException {
+            while (!out.isEmpty()) {
+                ByteBuffer frame = out.peekFirst();
+                channel.write(frame);
+                if (frame.hasRemaining()) return;
+                queuedBytes -= frame.capacity();
+                out.removeFirst();
+            }
+            key.interestOps(SelectionKey.OP_READ);
+        }
+
+        void close() {
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.log(Level.FINE, "Failed to close log stream subscriber: " + e.getMessage());
+            }
+        }
+
+        private boolean accepts(LogStreamRecord record) {
+            return record.level() >= minLevel && (record.loggerName() == null ? loggerPrefix.isEmpty() : record.loggerName().startsWith(loggerPrefix));
+        }
+    }
+}
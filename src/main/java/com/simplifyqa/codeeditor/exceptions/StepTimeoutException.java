@@ -0,0 +1,11 @@
+package com.simplifyqa.codeeditor.exceptions;
+
+public class StepTimeoutException extends RuntimeException {
+    public StepTimeoutException(String message) {
+        super(message);
+    }
+
+    public StepTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,124 @@
+package com.simplifyqa.codeeditor.githandler;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.simplifyqa.pluginbase.plugin.sync.models.SyncResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sends sync requests to the agent over a shared keep-alive {@link HttpClient}. Responses
+ * may be gzip-encoded and are parsed straight from the body stream. A PENDING response is
+ * returned as is: the previous sync waits for the user to accept or reject it in the UI,
+ * so asking again cannot change the answer.
+ * <p>
+ * -Dcodeeditor.sync.connectTimeout and -Dcodeeditor.sync.timeout (ms, default 5000 and
+ * 60000), -Dcodeeditor.sync.gzipRequest=true to compress the request body.
+ */
+public class SyncClient {
+    private static final Logger log = Logger.getLogger(SyncClient.class.getName());
+    private static final ObjectReader reader = JsonMapper.builder().build().readerFor(Body.class);
+
+    private final HttpClient httpClient;
+    private final URI endPoint;
+    private final Duration timeout;
+    private final boolean gzipRequest;
+
+    public record Result(int statusCode, SyncResponse body) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record Body(boolean saved, boolean pending, JsonNode errors) {
+        SyncResponse toSyncResponse() {
+            String message = errors == null || errors.isNull() ? null : errors.isTextual() ? errors.asText() : errors.toString();
+            return new SyncResponse(pending, saved, message);
+        }
+    }
+
+    public SyncClient(URI endPoint) {
+        this(endPoint,
+                Duration.ofMillis(Long.getLong("codeeditor.sync.connectTimeout", 5000)),
+                Duration.ofMillis(Long.getLong("codeeditor.sync.timeout", 60000)),
+                Boolean.getBoolean("codeeditor.sync.gzipRequest"));
+    }
+
+    public SyncClient(URI endPoint, Duration connectTimeout, Duration timeout, boolean gzipRequest) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        this.endPoint = endPoint;
+        this.timeout = timeout;
+        this.gzipRequest = gzipRequest;
+    }
+
+    public Result send(String requestBody) throws IOException, InterruptedException {
+        byte[] body = requestBody.getBytes(StandardCharsets.UTF_8);
+        HttpRequest.Builder request = HttpRequest.newBuilder(endPoint)
+                .timeout(timeout)
+                .header("Content-Type", "text/plain; charset=utf-8")
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip");
+        if (gzipRequest) {
+            body = gzip(body);
+            request.header("Content-Encoding", "gzip");
+        }
+        HttpResponse<InputStream> response = httpClient.send(request.POST(HttpRequest.BodyPublishers.ofByteArray(body)).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream in = decode(response)) {
+            if (response.statusCode() / 100 != 2) {
+                return new Result(response.statusCode(), null);
+            }
+            return new Result(response.statusCode(), parse(in));
+        }
+    }
+
+    /**
+     * The parsed response body, or null when it is empty or not valid JSON.
+     */
+    static SyncResponse parse(InputStream in) throws IOException {
+        PushbackInputStream body = new PushbackInputStream(in, 1);
+        int first;
+        do {
+            first = body.read();
+        } while (first != -1 && Character.isWhitespace(first));
+        if (first == -1) return null;
+        body.unread(first);
+        try {
+            Body parsed = reader.readValue(body);
+            return parsed == null ? null : parsed.toSyncResponse();
+        } catch (JsonProcessingException e) {
+            log.log(Level.WARNING, "Error parsing response: " + e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private static InputStream decode(HttpResponse<InputStream> response) throws IOException {
+        boolean gzipped = response.headers().firstValue("Content-Encoding").map("gzip"::equalsIgnoreCase).orElse(false);
+        return gzipped ? new GZIPInputStream(response.body(), 8192) : response.body();
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
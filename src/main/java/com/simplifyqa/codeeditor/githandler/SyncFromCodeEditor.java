@@ -1,8 +1,7 @@
 package com.simplifyqa.codeeditor.githandler;
 
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.IOException;
+import java.net.URI;
 import java.util.logging.*;
 
 import com.simplifyqa.pluginbase.plugin.sync.models.SyncResponse;
@@ -18,6 +17,7 @@ public class SyncFromCodeEditor {
     private static final int ERROR = 1;
 
     private static final Logger log = Logger.getLogger(SyncFromCodeEditor.class.getName());
+    private static final SyncClient syncClient = new SyncClient(URI.create(endPoint));
 
     static {
         configureLogger();
@@ -49,7 +49,6 @@ public class SyncFromCodeEditor {
     }
 
     public static int sendRequest(String requestBody) {
-        HttpURLConnection connection = null;
         try {
             printGap();
             printGap();
@@ -57,35 +56,19 @@ public class SyncFromCodeEditor {
                     + ":::::::::::::::::::::::::::::::::::SENDING SYNC REQUEST TO AGENT:::::::::::::::::::::::::::::::::::"
                     + ANSI_RESET);
 
-            URL url = new URL(endPoint);
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("POST");
-            connection.setRequestProperty("Content-Type", "text/plain");
-            connection.setDoOutput(true);
-
-            try (OutputStream os = connection.getOutputStream()) {
-                byte[] input = requestBody.getBytes("utf-8");
-                os.write(input, 0, input.length);
-            }
-
-            int responseCode = connection.getResponseCode();
+            SyncClient.Result result = syncClient.send(requestBody);
+            int responseCode = result.statusCode();
             String responseCodeColor = responseCode == 200 ? ANSI_GREEN : ANSI_RED;
             printGap();
             printGap();
             log.info("::::::::::::::::::::::::::::::::::" + ANSI_YELLOW + " API RESPONSE CODE: " + responseCodeColor
                     + responseCode
                     + ANSI_RESET + " ::::::::::::::::::::::::::::::::::");
-
-            StringBuilder response = new StringBuilder();
-            try (BufferedReader br = new BufferedReader(
-                    new InputStreamReader(connection.getInputStream(), "utf-8"))) {
-                String responseLine;
-                while ((responseLine = br.readLine()) != null) {
-                    response.append(responseLine.trim());
-                }
+            if (responseCode / 100 != 2) {
+                throw new IOException("Server returned HTTP response code: " + responseCode + " for URL: " + endPoint);
             }
 
-            SyncResponse responseBody = parseResponse(response.toString());
+            SyncResponse responseBody = result.body();
             printGap();
             printGap();
 
@@ -114,49 +97,7 @@ public class SyncFromCodeEditor {
             printGap();
             log.log(Level.SEVERE, ANSI_RED + "ERROR: " + ANSI_YELLOW + e.getMessage() + ANSI_RESET);
             return ERROR;
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
-        }
-    }
-
-    private static SyncResponse parseResponse(String jsonResponse) {
-        if (jsonResponse == null || jsonResponse.trim().isEmpty()) {
-            return null;
-        }
-
-        try {
-            boolean saved = jsonResponse.contains("\"saved\":true");
-            boolean pending = jsonResponse.contains("\"pending\":true");
-            String errors = extractField(jsonResponse, "errors");
-
-            return new SyncResponse(pending, saved, errors);
-        } catch (Exception e) {
-            printGap();
-            printGap();
-            log.log(Level.WARNING, "Error parsing response: " + e.getMessage());
-            return null;
-        }
-    }
-
-    private static String extractField(String json, String fieldName) {
-        int startIndex = json.indexOf("\"" + fieldName + "\":");
-        if (startIndex == -1)
-            return null;
-
-        startIndex = json.indexOf(":", startIndex) + 1;
-        int endIndex = json.indexOf(",", startIndex);
-        if (endIndex == -1)
-            endIndex = json.indexOf("}", startIndex);
-        if (endIndex == -1)
-            return null;
-
-        String value = json.substring(startIndex, endIndex).trim();
-        if (value.startsWith("\"") && value.endsWith("\"")) {
-            value = value.substring(1, value.length() - 1);
         }
-        return value;
     }
 
     private static void printGap() {
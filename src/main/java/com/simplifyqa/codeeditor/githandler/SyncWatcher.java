@@ -0,0 +1,305 @@
+package com.simplifyqa.codeeditor.githandler;
+
+import com.simplifyqa.codeeditor.helper.CustomPackageScanner;
+import com.simplifyqa.codeeditor.helper.ScanCache;
+import com.simplifyqa.codeeditor.helper.SyncActionClassReader;
+import com.simplifyqa.codeeditor.helper.SyncActionIndex;
+import com.simplifyqa.codeeditor.processor.SyncActionIndexProcessor;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Long-lived sync loop: watches the codeeditor sources, recompiles changed files in-process
+ * into target/classes, updates the @SyncAction registry and index for the affected classes
+ * only, and sends a sync request once edits have been quiet for the debounce interval
+ * (-Dcodeeditor.watch.debounce, ms, default 300). Edits that do not touch a class with
+ * @SyncAction methods are compiled but not synced.
+ * <p>
+ * Watch builds skip the annotation processor, so its checks run on the registry instead:
+ * while a @SyncAction method is not public or a uniqueId is used twice, the index is not
+ * written and nothing is synced.
+ */
+public class SyncWatcher implements Closeable {
+    private static final Logger log = Logger.getLogger(SyncWatcher.class.getName());
+    private static final String PACKAGE = "com.simplifyqa.codeeditor";
+
+    private final Path sourceRoot;
+    private final Path classesDir;
+    private final String classpath;
+    private final long debounceMillis;
+    private final IntSupplier sync;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watched = new HashMap<>();
+    private final Map<String, List<SyncActionIndex.Entry>> registry = new TreeMap<>();
+
+    public SyncWatcher(Path sourceRoot, Path classesDir, String classpath, long debounceMillis, IntSupplier sync) throws IOException {
+        this.sourceRoot = sourceRoot;
+        this.classesDir = classesDir;
+        this.classpath = classpath;
+        this.debounceMillis = debounceMillis;
+        this.sync = sync;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        registerTree(sourceRoot.resolve(PACKAGE.replace('.', File.separatorChar)));
+        loadRegistry();
+    }
+
+    public static void main(String[] args) {
+        Path project = Path.of(System.getProperty("user.dir"));
+        try (SyncWatcher watcher = new SyncWatcher(project.resolve("src/main/java"), project.resolve("target/classes"),
+                defaultClasspath(project.resolve("target/classes")), Long.getLong("codeeditor.watch.debounce", 300),
+                () -> SyncFromCodeEditor.sendRequest(project.toString()))) {
+            log.info("Watching " + project.resolve("src/main/java") + " for changes...");
+            watcher.run();
+        } catch (Exception e) {
+            log.log(Level.SEVERE, "Watch mode stopped: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    public void run() throws IOException, InterruptedException {
+        while (true) {
+            Set<Path> changed = awaitChanges();
+            if (!changed.isEmpty() && apply(changed)) {
+                sync.getAsInt();
+            }
+        }
+    }
+
+    /**
+     * Blocks for the first change, then collects further changes until none arrive within
+     * the debounce interval.
+     */
+    Set<Path> awaitChanges() throws IOException, InterruptedException {
+        Set<Path> changed = new LinkedHashSet<>();
+        WatchKey key = watchService.take();
+        while (key != null) {
+            collect(key, changed);
+            key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+        }
+        return changed;
+    }
+
+    /**
+     * Recompiles the changed sources and refreshes their registry entries. Returns true when
+     * a class with @SyncAction methods was affected and the registry passes the annotation
+     * processor's checks, i.e. the project should be synced.
+     */
+    boolean apply(Set<Path> changedSources) throws IOException {
+        List<Path> compile = new ArrayList<>();
+        Set<String> touched = new TreeSet<>();
+        for (Path source : changedSources) {
+            String className = className(source);
+            touched.add(className);
+            if (Files.exists(source)) {
+                compile.add(source);
+            } else {
+                deleteClassFiles(className);
+            }
+        }
+        if (!compile.isEmpty() && !compile(compile)) return false;
+
+        boolean affected = false;
+        for (String className : touched) {
+            List<SyncActionIndex.Entry> before = registry.getOrDefault(className, List.of());
+            List<SyncActionIndex.Entry> after = readClassFiles(className);
+            if (after.isEmpty()) registry.remove(className);
+            else registry.put(className, after);
+            if (!before.isEmpty() || !after.isEmpty()) {
+                affected = true;
+                logDelta(className, before, after);
+            }
+        }
+        if (!affected) return false;
+        List<String> lines = indexLines();
+        List<String> problems = SyncActionIndexProcessor.check(lines);
+        if (!problems.isEmpty()) {
+            problems.forEach(problem -> log.log(Level.SEVERE, problem));
+            log.log(Level.SEVERE, "Sync skipped until the @SyncAction errors are fixed");
+            return false;
+        }
+        writeIndex(lines);
+        return true;
+    }
+
+    private boolean compile(List<Path> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) throw new IOException("No Java compiler available, watch mode needs a JDK");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = List.of("-d", classesDir.toString(), "-classpath", classpath,
+                    "-sourcepath", sourceRoot.toString(), "-proc:none", "-parameters", "-encoding", "UTF-8");
+            boolean success = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromPaths(sources)).call();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    log.log(Level.SEVERE, String.format("%s:%s %s", diagnostic.getSource() == null ? "" : diagnostic.getSource().getName(),
+                            diagnostic.getLineNumber(), diagnostic.getMessage(null)));
+                }
+            }
+            if (!success) log.log(Level.SEVERE, "Compilation failed, sync skipped until the errors are fixed");
+            return success;
+        }
+    }
+
+    /**
+     * Reads the registry from the class files at startup. Watch builds skip the annotation
+     * processor, so this is always a bytecode scan; the {@link ScanCache} spares re-parsing
+     * the classes unchanged since the previous watch session.
+     */
+    private void loadRegistry() throws IOException {
+        Path packageDir = classesDir.resolve(PACKAGE.replace('.', File.separatorChar));
+        if (!Files.isDirectory(packageDir)) return;
+        ScanCache cache = ScanCache.load("watch-" + PACKAGE);
+        try (URLClassLoader classes = new URLClassLoader(new URL[]{classesDir.toUri().toURL()}, null)) {
+            for (SyncActionIndex.Entry entry : CustomPackageScanner.scanSyncActions(PACKAGE, classes, cache)) {
+                registry.computeIfAbsent(topLevel(entry.className()), name -> new ArrayList<>()).add(entry);
+            }
+        }
+        cache.save();
+    }
+
+    private List<SyncActionIndex.Entry> readClassFiles(String className) throws IOException {
+        List<SyncActionIndex.Entry> entries = new ArrayList<>();
+        for (Path file : classFiles(className)) {
+            entries.addAll(SyncActionClassReader.read(Files.readAllBytes(file)));
+        }
+        return entries;
+    }
+
+    private void deleteClassFiles(String className) throws IOException {
+        for (Path file : classFiles(className)) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private List<Path> classFiles(String className) throws IOException {
+        Path classFile = classesDir.resolve(className.replace('.', File.separatorChar) + ".class");
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(classFile.getParent())) return files;
+        String simpleName = classFile.getFileName().toString();
+        String nestedPrefix = simpleName.substring(0, simpleName.length() - 6) + "$";
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(classFile.getParent(), "*.class")) {
+            for (Path sibling : siblings) {
+                String name = sibling.getFileName().toString();
+                if (name.equals(simpleName) || name.startsWith(nestedPrefix)) files.add(sibling);
+            }
+        }
+        return files;
+    }
+
+    private List<String> indexLines() {
+        List<String> lines = new ArrayList<>();
+        registry.values().forEach(entries -> entries.forEach(entry -> lines.add(entry.toLine())));
+        return lines;
+    }
+
+    private void writeIndex(List<String> lines) throws IOException {
+        Path index = classesDir.resolve(SyncActionIndexProcessor.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, lines, StandardCharsets.UTF_8);
+    }
+
+    private static void logDelta(String className, List<SyncActionIndex.Entry> before, List<SyncActionIndex.Entry> after) {
+        Map<String, SyncActionIndex.Entry> old = new HashMap<>();
+        before.forEach(entry -> old.put(entry.uniqueId(), entry));
+        for (SyncActionIndex.Entry entry : after) {
+            SyncActionIndex.Entry previous = old.remove(entry.uniqueId());
+            log.info(String.format("%s action %s in %s", previous == null ? "Added" : "Updated", entry.uniqueId(), className));
+        }
+        old.keySet().forEach(uniqueId -> log.info(String.format("Removed action %s from %s", uniqueId, className)));
+    }
+
+    private String className(Path source) {
+        String relative = sourceRoot.relativize(source).toString();
+        return relative.substring(0, relative.length() - ".java".length()).replace(File.separatorChar, '.');
+    }
+
+    private static String topLevel(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) throws IOException {
+        Path dir = watched.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) continue;
+            Path path = dir.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                registerTree(path);
+                try (Stream<Path> files = Files.walk(path)) {
+                    files.filter(f -> f.toString().endsWith(".java")).forEach(changed::add);
+                }
+            } else if (path.toString().endsWith(".java")) {
+                changed.add(path);
+            }
+        }
+        if (!key.reset()) watched.remove(key);
+    }
+
+    private void registerTree(Path root) throws IOException {
+        if (!Files.isDirectory(root)) return;
+        try (Stream<Path> dirs = Files.walk(root)) {
+            for (Path dir : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                watched.put(dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), dir);
+            }
+        }
+    }
+
+    /**
+     * Compile classpath: -Dcodeeditor.watch.classpath, else the URLs of the launching class
+     * loader (the project dependencies under exec:java), else java.class.path.
+     */
+    private static String defaultClasspath(Path classesDir) {
+        String configured = System.getProperty("codeeditor.watch.classpath");
+        if (configured != null) return configured;
+        List<String> entries = new ArrayList<>();
+        entries.add(classesDir.toString());
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader instanceof URLClassLoader urlLoader) {
+            for (URL url : urlLoader.getURLs()) {
+                if ("file".equals(url.getProtocol())) entries.add(Path.of(URI.create(url.toString())).toString());
+            }
+        }
+        entries.add(System.getProperty("java.class.path"));
+        return String.join(File.pathSeparator, entries);
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
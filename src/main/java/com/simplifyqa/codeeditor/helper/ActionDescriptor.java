@@ -0,0 +1,133 @@
+package com.simplifyqa.codeeditor.helper;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Registry entry for one @SyncAction. Entries created from the build-time index only
+ * know the class and method names; {@link #validate()} loads the declaring class, without
+ * initializing it, compiles the invoker and binding plan and checks the method with the
+ * {@link ActionValidator}. The registry does this once at registration and drops invalid
+ * actions; the verdict is cached here, so an invalid action is refused before it is ever
+ * invoked.
+ * <p>
+ * A resolved descriptor carries everything a step needs: the invoker, the binding plan
+ * and the constructor of the declaring class used as its instance factory.
+ */
+public final class ActionDescriptor {
+    private final String methodId;
+    private final String uniqueId;
+    private final SyncActionIndex.Entry entry;
+    private final ClassLoader classLoader;
+    private final TypeCoercionEngine coercionEngine;
+    private final ActionValidator validator;
+    private volatile Resolved resolved;
+
+    private record Resolved(Method method, IActionInvoker invoker, ArgumentBindingPlan bindingPlan,
+                            Constructor<?> instanceFactory, ActionValidator.Verdict verdict) {
+    }
+
+    private ActionDescriptor(String methodId, String uniqueId, SyncActionIndex.Entry entry, ClassLoader classLoader,
+                             TypeCoercionEngine coercionEngine, ActionValidator validator, Resolved resolved) {
+        this.methodId = methodId;
+        this.uniqueId = uniqueId;
+        this.entry = entry;
+        this.classLoader = classLoader;
+        this.coercionEngine = coercionEngine;
+        this.validator = validator;
+        this.resolved = resolved;
+    }
+
+    /**
+     * @param methodId id the action is registered and looked up under, as sent in execution steps
+     */
+    public static ActionDescriptor lazy(String methodId, SyncActionIndex.Entry entry, ClassLoader classLoader,
+                                        TypeCoercionEngine coercionEngine, ActionValidator validator) {
+        return new ActionDescriptor(methodId, entry.uniqueId(), entry, classLoader, coercionEngine, validator, null);
+    }
+
+    public String getMethodId() {
+        return methodId;
+    }
+
+    public String getUniqueId() {
+        return uniqueId;
+    }
+
+    public boolean isResolved() {
+        return resolved != null;
+    }
+
+    public Method getMethod() throws NoSuchMethodException {
+        return valid().method();
+    }
+
+    public IActionInvoker getInvoker() throws NoSuchMethodException {
+        return valid().invoker();
+    }
+
+    public ArgumentBindingPlan getBindingPlan() throws NoSuchMethodException {
+        return valid().bindingPlan();
+    }
+
+    public Class<?> getDeclaringClass() throws NoSuchMethodException {
+        return valid().method().getDeclaringClass();
+    }
+
+    /**
+     * A new instance of the declaring class, through its cached public no-argument constructor.
+     */
+    public Object newInstance()
+            throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        return valid().instanceFactory().newInstance();
+    }
+
+    /**
+     * Resolves the action if needed and returns its cached verdict.
+     */
+    public ActionValidator.Verdict validate() throws NoSuchMethodException {
+        return resolve().verdict();
+    }
+
+    private Resolved valid() throws NoSuchMethodException {
+        Resolved current = resolve();
+        if (!current.verdict().isValid()) {
+            throw new NoSuchMethodException(String.format("Method with id %s is not a valid @SyncAction: %s", uniqueId, current.verdict()));
+        }
+        return current;
+    }
+
+    private Resolved resolve() throws NoSuchMethodException {
+        Resolved current = resolved;
+        if (current != null) return current;
+        synchronized (this) {
+            if (resolved == null) {
+                try {
+                    resolved = compile(entry.resolve(classLoader), coercionEngine, validator);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    NoSuchMethodException exception = new NoSuchMethodException(
+                            String.format("Class %s for method id %s could not be loaded", entry.className(), uniqueId));
+                    exception.initCause(e);
+                    throw exception;
+                }
+            }
+            return resolved;
+        }
+    }
+
+    private static Resolved compile(Method method, TypeCoercionEngine coercionEngine, ActionValidator validator) {
+        ActionValidator.Verdict verdict = validator.validate(method);
+        if (!verdict.isValid()) {
+            return new Resolved(method, null, null, null, verdict);
+        }
+        try {
+            return new Resolved(method, IActionInvoker.compile(method), ArgumentBindingPlan.of(method, coercionEngine),
+                    method.getDeclaringClass().getConstructor(), verdict);
+        } catch (NoSuchMethodException e) {
+            return new Resolved(method, null, null, null, new ActionValidator.Verdict(
+                    List.of("declaring class " + method.getDeclaringClass().getName() + " needs a public no-argument constructor")));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.simplifyqa.codeeditor.helper;
+
+/**
+ * A looked up action together with the project version it belongs to. While the lease is
+ * open that version's class loader stays open, even if the project is reloaded or unloaded
+ * in the meantime, so a running step always finishes on the code it started with.
+ */
+public final class ActionLease implements AutoCloseable {
+    private final ProjectActions project;
+    private final ActionDescriptor action;
+    private boolean released;
+
+    ActionLease(ProjectActions project, ActionDescriptor action) {
+        this.project = project;
+        this.action = action;
+    }
+
+    public ActionDescriptor getAction() {
+        return action;
+    }
+
+    @Override
+    public void close() {
+        if (released) return;
+        released = true;
+        project.exit();
+    }
+}
@@ -0,0 +1,93 @@
+package com.simplifyqa.codeeditor.helper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable table of registered actions, built once per registration and swapped as a
+ * whole. Keys are interned when the table is built and stored in an open-addressed array
+ * sized to at most half full, so a lookup is one hash, usually one probe and an identity
+ * comparison, with no allocation or key building on the step path.
+ */
+public final class ActionRegistry {
+    private static final ActionRegistry EMPTY = new ActionRegistry(new String[0], new ActionDescriptor[0], List.of());
+
+    private final String[] keys;
+    private final ActionDescriptor[] actions;
+    private final List<String> ids;
+
+    private ActionRegistry(String[] keys, ActionDescriptor[] actions, List<String> ids) {
+        this.keys = keys;
+        this.actions = actions;
+        this.ids = ids;
+    }
+
+    public static ActionRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the table from method id to action. Later entries win for a repeated id.
+     */
+    public static ActionRegistry of(Map<String, ActionDescriptor> entries) {
+        if (entries.isEmpty()) return EMPTY;
+        int capacity = Integer.highestOneBit(Math.max(2, entries.size()) * 2 - 1) << 1;
+        String[] keys = new String[capacity];
+        ActionDescriptor[] actions = new ActionDescriptor[capacity];
+        List<String> ids = new ArrayList<>(entries.size());
+        for (Map.Entry<String, ActionDescriptor> entry : entries.entrySet()) {
+            String key = entry.getKey().intern();
+            int slot = slot(keys, key);
+            if (keys[slot] == null) ids.add(key);
+            keys[slot] = key;
+            actions[slot] = entry.getValue();
+        }
+        return new ActionRegistry(keys, actions, Collections.unmodifiableList(ids));
+    }
+
+    /**
+     * The action registered under the method id, or null.
+     */
+    public ActionDescriptor get(String methodId) {
+        if (methodId == null || keys.length == 0) return null;
+        int slot = slot(keys, methodId);
+        return keys[slot] != null ? actions[slot] : null;
+    }
+
+    /**
+     * A new table holding this one's entries plus the given ones, which replace existing ids.
+     */
+    public ActionRegistry with(Map<String, ActionDescriptor> entries) {
+        Map<String, ActionDescriptor> merged = new LinkedHashMap<>(asMap());
+        merged.putAll(entries);
+        return of(merged);
+    }
+
+    public Map<String, ActionDescriptor> asMap() {
+        Map<String, ActionDescriptor> map = new LinkedHashMap<>();
+        for (String id : ids) map.put(id, get(id));
+        return map;
+    }
+
+    public List<String> ids() {
+        return ids;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private static int slot(String[] keys, String key) {
+        int mask = keys.length - 1;
+        int h = key.hashCode();
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (true) {
+            String existing = keys[slot];
+            if (existing == null || existing == key || existing.equals(key)) return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+}
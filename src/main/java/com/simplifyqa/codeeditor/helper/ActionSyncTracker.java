@@ -0,0 +1,113 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.pluginbase.codeeditor.annotations.SyncAction;
+import com.simplifyqa.pluginbase.plugin.sync.models.ActionData;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tracks a content hash per synced action so later syncs only carry what changed. A delta
+ * is computed against the last accepted state; its version token identifies the resulting
+ * content and becomes the new base once the receiver acknowledges it. Only the latest
+ * offered version can be acknowledged; an older one is refused and the next delta is full.
+ */
+public class ActionSyncTracker {
+    private Map<String, String> acceptedHashes = Map.of();
+    private String acceptedVersion;
+    private Map<String, String> offeredHashes = Map.of();
+    private String offeredVersion;
+
+    /**
+     * An action as sent to the receiver, and the content its hash is computed from.
+     */
+    public record SyncedAction(ActionData data, String content) {
+    }
+
+    public synchronized String getAcceptedVersion() {
+        return acceptedVersion;
+    }
+
+    /**
+     * Changes between the accepted state and {@code actions}, keyed by uniqueId. A base
+     * version the tracker does not know yields a full delta.
+     */
+    public synchronized SyncDelta diff(String baseVersion, Map<String, SyncedAction> actions) {
+        boolean full = baseVersion == null || !baseVersion.equals(acceptedVersion);
+        Map<String, String> base = full ? Map.of() : acceptedHashes;
+        Map<String, String> hashes = new TreeMap<>();
+        List<ActionData> added = new ArrayList<>();
+        List<ActionData> changed = new ArrayList<>();
+        for (Map.Entry<String, SyncedAction> action : actions.entrySet()) {
+            String hash = hash(action.getValue().content());
+            hashes.put(action.getKey(), hash);
+            String previous = base.get(action.getKey());
+            if (previous == null) added.add(action.getValue().data());
+            else if (!previous.equals(hash)) changed.add(action.getValue().data());
+        }
+        List<String> removed = new ArrayList<>();
+        for (String uniqueId : base.keySet()) {
+            if (!hashes.containsKey(uniqueId)) removed.add(uniqueId);
+        }
+        String version = version(hashes);
+        offeredVersion = version;
+        offeredHashes = hashes;
+        return new SyncDelta(full ? null : acceptedVersion, version, added, changed, removed);
+    }
+
+    /**
+     * Makes an offered version the base of later deltas.
+     */
+    public synchronized boolean accept(String version) {
+        if (version == null || !version.equals(offeredVersion)) return false;
+        acceptedHashes = offeredHashes;
+        acceptedVersion = version;
+        offeredHashes = Map.of();
+        offeredVersion = null;
+        return true;
+    }
+
+    /**
+     * What the receiver sees of an action: its id, group, signature and object template.
+     */
+    public static String content(SyncActionIndex.Entry entry, Method method) {
+        SyncAction annotation = method.getAnnotation(SyncAction.class);
+        return String.join("\n", entry.uniqueId(), entry.groupName(), method.toGenericString(),
+                String.valueOf(annotation.objectTemplate().name()), annotation.objectTemplate().description(),
+                String.valueOf(annotation.objectRequired()));
+    }
+
+    static String hash(String content) {
+        return hex(digest().digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String version(Map<String, String> hashes) {
+        MessageDigest digest = digest();
+        hashes.forEach((uniqueId, hash) -> {
+            digest.update(uniqueId.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(hash.getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) '\n');
+        });
+        return hex(digest.digest());
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,85 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.pluginbase.argument.IArgument;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks the parts of an @SyncAction signature that would otherwise only fail when a step
+ * runs: the boolean return the plugin casts to, a public no-argument constructor for the
+ * instance cache, and parameters the {@link TypeCoercionEngine} can fill from step data,
+ * including the component type of a varargs parameter. Verdicts are cached per method.
+ */
+public class ActionValidator {
+    private final TypeCoercionEngine coercionEngine;
+    private final Map<Method, Verdict> verdicts = new ConcurrentHashMap<>();
+
+    public record Verdict(List<String> problems) {
+        public boolean isValid() {
+            return problems.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return isValid() ? "valid" : String.join("; ", problems);
+        }
+    }
+
+    public ActionValidator(TypeCoercionEngine coercionEngine) {
+        this.coercionEngine = coercionEngine;
+    }
+
+    public Verdict validate(Method method) {
+        return verdicts.computeIfAbsent(method, this::check);
+    }
+
+    private Verdict check(Method method) {
+        List<String> problems = new ArrayList<>();
+        Class<?> returnType = method.getReturnType();
+        if (returnType != boolean.class && returnType != Boolean.class) {
+            problems.add("must return boolean but returns " + returnType.getName());
+        }
+        if (!Modifier.isPublic(method.getModifiers())) {
+            problems.add("must be public");
+        }
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(declaringClass.getModifiers())) {
+            problems.add("declaring class " + declaringClass.getName() + " must be public");
+        }
+        if (declaringClass.isInterface() || Modifier.isAbstract(declaringClass.getModifiers())) {
+            problems.add("declaring class " + declaringClass.getName() + " must be concrete");
+        } else if (declaringClass.isMemberClass() && !Modifier.isStatic(declaringClass.getModifiers())) {
+            problems.add("declaring class " + declaringClass.getName() + " must be a static nested class");
+        } else if (!hasPublicDefaultConstructor(declaringClass)) {
+            problems.add("declaring class " + declaringClass.getName() + " needs a public no-argument constructor");
+        }
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> type = parameterTypes[i];
+            if (type.isAssignableFrom(IArgument.class)) continue;
+            if (method.isVarArgs() && i == parameterTypes.length - 1) {
+                Class<?> componentType = type.getComponentType();
+                if (IArgument.class.isAssignableFrom(componentType) || !coercionEngine.canCoerce(componentType)) {
+                    problems.add(String.format("varargs parameter %s of type %s cannot be filled from step data", i, type.getSimpleName()));
+                }
+            } else if (!coercionEngine.canCoerce(type)) {
+                problems.add(String.format("parameter %s of type %s cannot be converted from step data", i, type.getName()));
+            }
+        }
+        return new Verdict(List.copyOf(problems));
+    }
+
+    private static boolean hasPublicDefaultConstructor(Class<?> type) {
+        try {
+            type.getConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.pluginbase.argument.IArgument;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Immutable, per-method description of how step arguments map onto the method's
+ * parameters. Built once at registration so binding a step is a single loop.
+ */
+public final class ArgumentBindingPlan {
+    private static final Logger logger = Logger.getLogger(ArgumentBindingPlan.class.getName());
+    private static final StepLog stepLog = StepLog.of(ArgumentBindingPlan.class);
+
+    private final String methodName;
+    private final int parameterCount;
+    private final boolean varArgs;
+    private final boolean[] passThrough;
+    private final IValueConverter[] converters;
+    private final Class<?> varargsType;
+
+    private ArgumentBindingPlan(Method method, TypeCoercionEngine coercionEngine) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        this.methodName = method.getName();
+        this.parameterCount = parameterTypes.length;
+        this.varArgs = method.isVarArgs();
+        this.passThrough = new boolean[parameterCount];
+        this.converters = new IValueConverter[parameterCount];
+        Class<?> componentType = null;
+        for (int i = 0; i < parameterCount; i++) {
+            if (parameterTypes[i].isAssignableFrom(IArgument.class)) {
+                passThrough[i] = true;
+            } else if (varArgs && i == parameterCount - 1) {
+                componentType = parameterTypes[i].getComponentType();
+                converters[i] = coercionEngine.converterFor(componentType);
+            } else {
+                converters[i] = coercionEngine.converterFor(parameterTypes[i]);
+            }
+        }
+        this.varargsType = componentType;
+    }
+
+    public static ArgumentBindingPlan of(Method method, TypeCoercionEngine coercionEngine) {
+        return new ArgumentBindingPlan(method, coercionEngine);
+    }
+
+    public boolean isVarArgs() {
+        return varArgs;
+    }
+
+    public Object[] bind(List<IArgument> arguments) throws NoSuchMethodException {
+        if ((!varArgs && parameterCount != arguments.size()) ||
+                (varArgs && arguments.size() < parameterCount - 1)) {
+            logger.log(Level.SEVERE, String.format("Argument length doesn't match for method : %s ," +
+                            "ActualMethodParameter Length : %s, StepParameter Length : %s",
+                    methodName, parameterCount, arguments.size()));
+            throw new NoSuchMethodException("Arguments length does not match");
+        }
+        Object[] result = new Object[parameterCount];
+
+        for (int i = 0; i < parameterCount; i++) {
+            if (passThrough[i]) {
+                result[i] = arguments.get(i);
+            } else if (varargsType != null && i == parameterCount - 1) {
+                int varargsLength = arguments.size() - i;
+                Object varargsArray = Array.newInstance(varargsType, varargsLength);
+                for (int j = 0; j < varargsLength; j++) {
+                    String value = arguments.get(i + j).getValue();
+                    stepLog.step("Array of Values from TestData: {0}", value);
+                    Array.set(varargsArray, j, converters[i].convert(value));
+                }
+                result[i] = varargsArray;
+            } else {
+                String value = arguments.get(i).getValue();
+                stepLog.step("Value from TestData: {0}", value);
+                result[i] = converters[i].convert(value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+package com.simplifyqa.codeeditor.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Queues log records in a bounded buffer and publishes them to the wrapped handlers from a
+ * single daemon thread, so formatting and console I/O leave the step thread. Records that
+ * arrive while the buffer is full are dropped and counted; the count is reported once the
+ * buffer drains.
+ */
+public class AsyncLogHandler extends Handler {
+    private final BlockingQueue<LogRecord> buffer;
+    private final Handler[] delegates;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread worker;
+
+    public AsyncLogHandler(int capacity, Handler... delegates) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.delegates = delegates;
+        this.worker = new Thread(this::drain, "codeeditor-log");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Routes the logger's records through an async handler wrapping the root handlers.
+     */
+    public static synchronized void install(Logger logger, int capacity) {
+        for (Handler handler : logger.getHandlers()) {
+            if (handler instanceof AsyncLogHandler) return;
+        }
+        AsyncLogHandler handler = new AsyncLogHandler(capacity, Logger.getLogger("").getHandlers());
+        logger.addHandler(handler);
+        logger.setUseParentHandlers(false);
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) return;
+        // caller inference walks the stack, so it has to happen on the logging thread
+        record.getSourceClassName();
+        if (!buffer.offer(record)) dropped.incrementAndGet();
+    }
+
+    private void drain() {
+        List<LogRecord> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            buffer.drainTo(batch);
+            for (LogRecord record : batch) {
+                for (Handler delegate : delegates) delegate.publish(record);
+            }
+            batch.clear();
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                LogRecord record = new LogRecord(Level.WARNING, "Log buffer full, dropped {0} records");
+                record.setParameters(new Object[]{lost});
+                record.setLoggerName(AsyncLogHandler.class.getName());
+                for (Handler delegate : delegates) delegate.publish(record);
+            }
+            for (Handler delegate : delegates) delegate.flush();
+        }
+    }
+
+    @Override
+    public void flush() {
+        for (Handler delegate : delegates) delegate.flush();
+    }
+
+    @Override
+    public void close() {
+        worker.interrupt();
+        flush();
+    }
+}
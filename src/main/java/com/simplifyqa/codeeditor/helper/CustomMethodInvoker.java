@@ -1,22 +1,26 @@
 package com.simplifyqa.codeeditor.helper;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.simplifyqa.codeeditor.exceptions.MethodLoaderException;
+import com.simplifyqa.codeeditor.exceptions.StepTimeoutException;
 import com.simplifyqa.codeeditor.plugin.CodeEditorPlugin;
+import com.simplifyqa.codeeditor.plugin.StepMetrics;
+import com.simplifyqa.codeeditor.plugin.StepPhase;
 import com.simplifyqa.pluginbase.argument.IArgument;
-import com.simplifyqa.pluginbase.codeeditor.annotations.SyncAction;
 import com.simplifyqa.pluginbase.common.models.Configuration;
-import com.simplifyqa.pluginbase.exceptions.IncompatibleParameterTypeException;
 import com.simplifyqa.pluginbase.exceptions.MethodInvocationFailedException;
 import com.simplifyqa.pluginbase.exceptions.NullMethodParameterException;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -24,154 +28,214 @@ import static java.lang.reflect.Array.*;
 
 public class CustomMethodInvoker implements ICustomMethodInvoker {
     private final Logger logger = Logger.getLogger(CustomMethodInvoker.class.getName());
+    private final StepLog stepLog = StepLog.of(CustomMethodInvoker.class);
 
     public CustomMethodInvoker() {
+        this(new StepMetrics(false));
     }
 
-    private final Map<String, Method> methodsList = new HashMap<>();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    public CustomMethodInvoker(StepMetrics metrics) {
+        this.metrics = metrics;
+    }
 
+    /**
+     * Actions of every loaded project. Each project's registry is an immutable snapshot,
+     * replaced as a whole on registration so concurrent steps never see a partial update.
+     */
+    private final Map<String, ProjectActions> projects = new ConcurrentHashMap<>();
+    private final StepExecutor stepExecutor = new StepExecutor();
+    private final StepMetrics metrics;
+
+    /**
+     * Registers the actions on this plugin's own classpath under {@link CodeEditorPlugin#projectId}.
+     */
     @Override
     public void registerMethodsFromPackage(List<String> packageName) {
+        ProjectActions project = projects.computeIfAbsent(CodeEditorPlugin.projectId,
+                id -> new ProjectActions(id, CustomMethodInvoker.class.getClassLoader(), null));
+        register(project, packageName);
+    }
+
+    @Override
+    public void registerProject(String projectId, List<Path> classpath, List<String> packageName) {
+        registerProject(projectId, classpath, packageName, null);
+    }
+
+    /**
+     * Loads the project's jars or class directories into a fresh class loader and registers
+     * its actions under the project id. A version already loaded under that id is swapped out
+     * atomically: new steps run on the new version, steps already running finish on the old
+     * one, and the old loader is closed when the last of them is done, followed by the old
+     * version's {@code onUnload} callback.
+     */
+    @Override
+    public void registerProject(String projectId, List<Path> classpath, List<String> packageName, Runnable onUnload) {
+        URL[] urls = new URL[classpath.size()];
         try {
-            for (String pkg : packageName) {
-                List<Class<?>> classes = CustomPackageScanner.getClasses(pkg);
-                registerMethodsFromClass(classes);
+            for (int i = 0; i < urls.length; i++) {
+                urls[i] = classpath.get(i).toUri().toURL();
             }
-            logger.info("Loaded methods with IDs :" + methodsList.keySet());
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, String.format("Methods couldn't be registered for package : %s , %s", packageName, e.getMessage()));
-            throw new MethodLoaderException(String.format("Methods couldn't be registered for package : %s , %s", packageName, e.getMessage()));
+        } catch (MalformedURLException e) {
+            throw new MethodLoaderException(String.format("Invalid classpath for project %s : %s", projectId, e.getMessage()));
         }
+        ProjectActions project = new ProjectActions(projectId,
+                new ProjectClassLoader(projectId, urls, CustomMethodInvoker.class.getClassLoader()), onUnload);
+        try {
+            register(project, packageName);
+        } catch (MethodLoaderException e) {
+            project.retire();
+            throw e;
+        }
+        logger.info(String.format("Loaded project %s from %s", projectId, classpath));
+        ProjectActions previous = projects.put(projectId, project);
+        if (previous != null) previous.retire();
     }
 
-    private void registerMethodsFromClass(List<Class<?>> classes) {
-        for (Class eachClass : classes) {
-            for (Method method : eachClass.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(SyncAction.class)) {
-                    SyncAction annotation = method.getAnnotation((SyncAction.class));
-                    String value = CodeEditorPlugin.projectId + "_" + annotation.uniqueId();
-                    methodsList.put(value, method);
-                }
-            }
-        }
+    /**
+     * Unregisters the project's actions and closes its class loader once the steps already
+     * running on it are done. Sessions of the project should be closed first so their cached
+     * class instances are released too.
+     */
+    @Override
+    public boolean unloadProject(String projectId) {
+        ProjectActions project = projects.remove(projectId);
+        if (project == null) return false;
+        project.retire();
+        logger.info("Unloaded project " + projectId);
+        return true;
     }
 
     @Override
-    public Object invokeMethod(String methodId, String projectId, Object classObject, List<IArgument> methodArguments, Configuration configuration) throws NoSuchMethodException {
-        Method method = methodsList.get(methodId);
-        logger.info(String.format("Fetched Method with id : %s, name: %s ,projectId: %s", methodId, method.getName(), projectId));
-        logger.info(String.format("class object : %s", classObject));
-
-        if (Optional.ofNullable(method).isPresent()) {
-            long timeout = configuration.MAX_TIME_OUT();
-            if (timeout<=0){
-                timeout=90000;
-            }
-            long endTime = System.currentTimeMillis() + timeout;
-
-            while (System.currentTimeMillis() < endTime) {
-                try {
-                    if (Optional.ofNullable(methodArguments).isPresent()) {
-                        Object[] args = methodArgumentGenerator(method, methodArguments);
-                        Object result = method.invoke(classObject, args);
-
-                        // Update runtime parameter if it is a variable argument
-                        if (method.isVarArgs()) {
-                            Object varargsArray = args[args.length - 1];
-                            int lastIndex = getLength(varargsArray) - 1;
-                            Object updatedValue = get(varargsArray, lastIndex);
-                            methodArguments.get(methodArguments.size() - 1).updateValue(updatedValue.toString());
-                            logger.info("Stored Value: " + updatedValue);
-                        }
-                        return result;
-                    } else {
-                        logger.log(Level.SEVERE, "Method Arguments set to null for method : " + methodId);
-                        throw new NullMethodParameterException("Method Arguments are null.");
+    public Set<String> getProjectIds() {
+        return Set.copyOf(projects.keySet());
+    }
+
+    @Override
+    public ClassLoader getProjectClassLoader(String projectId) {
+        ProjectActions project = projects.get(projectId);
+        return project != null ? project.getClassLoader() : null;
+    }
+
+    private void register(ProjectActions project, List<String> packageName) {
+        try {
+            ActionRegistry registered;
+            synchronized (project) {
+                Map<String, ActionDescriptor> actions = new LinkedHashMap<>();
+                for (String pkg : packageName) {
+                    for (SyncActionIndex.Entry entry : CustomPackageScanner.getSyncActions(pkg, project.getClassLoader())) {
+                        ActionDescriptor action = project.describe(entry);
+                        if (isValid(action)) actions.put(action.getMethodId(), action);
                     }
-                } catch (InvocationTargetException ex) {
-                    logger.log(Level.SEVERE, String.format("Method with Id %s could not be invoked.", methodId));
-                    logger.info("Step Exception: " + ex.getCause());
-                    throw new MethodInvocationFailedException(ex.getCause().getMessage());
-                } catch (Exception e) {
-                    logger.log(Level.SEVERE, String.format("Method with Id %s could not be invoked.", methodId));
-                    logger.info("Step Exception");
-                    throw new MethodInvocationFailedException(e.getMessage());
                 }
+                registered = project.getRegistry().with(actions);
+                project.setRegistry(registered);
             }
-            logger.log(Level.SEVERE, String.format("Method with Id %s could not be invoked within the timeout period.", methodId));
-            throw new MethodInvocationFailedException("Method invocation failed after retrying for 90 seconds.");
-        } else {
-            logger.log(Level.SEVERE, String.format("Method with Id %s not found.", methodId));
-            throw new NoSuchMethodException("Method not found.");
+            logger.info(() -> "Loaded methods with IDs :" + registered.ids());
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, String.format("Methods couldn't be registered for package : %s , %s", packageName, e.getMessage()));
+            throw new MethodLoaderException(String.format("Methods couldn't be registered for package : %s , %s", packageName, e.getMessage()));
         }
     }
 
+    /**
+     * Validates the action at registration, so an invalid one is rejected up front instead
+     * of failing the first step that uses it. No static initializer runs here.
+     */
+    private boolean isValid(ActionDescriptor action) {
+        try {
+            ActionValidator.Verdict verdict = action.validate();
+            if (verdict.isValid()) return true;
+            logger.log(Level.SEVERE, String.format("Method with Id %s rejected: %s", action.getMethodId(), verdict));
+        } catch (NoSuchMethodException e) {
+            logger.log(Level.SEVERE, String.format("Method with Id %s rejected: %s", action.getMethodId(), e.getMessage()));
+        }
+        return false;
+    }
 
     @Override
-    public Method getMethod(String methodId, String projectId) throws NoSuchMethodException {
-        Method method = methodsList.get(methodId);
-        if (method != null)
-            return method;
-        else
-            throw new NoSuchMethodException("Method id doesn't matches");
+    public Object invokeMethod(String methodId, String projectId, Object classObject, List<IArgument> methodArguments, Configuration configuration) throws NoSuchMethodException {
+        return invokeAction(getAction(methodId, projectId), classObject, methodArguments, configuration);
     }
 
-    private Object[] methodArgumentGenerator(Method method, List<IArgument> arguments) throws NoSuchMethodException {
-        Class<?>[] parameterTypes = method.getParameterTypes();
-        //check if it is a variable arguments
-        boolean hasVarargs = method.isVarArgs();
-        if ((!hasVarargs && parameterTypes.length != arguments.size()) ||
-                (hasVarargs && arguments.size() < parameterTypes.length - 1)) {
-            logger.log(Level.SEVERE, String.format("Argument length doesn't match for method : %s ," +
-                            "ActualMethodParameter Length : %s, StepParameter Length : %s",
-                    method.getName(), parameterTypes.length, arguments.size()));
-            throw new NoSuchMethodException("Arguments length does not match");
-        }
-        Object[] result = new Object[parameterTypes.length];
+    @Override
+    public Method getMethod(String methodId, String projectId) throws NoSuchMethodException {
+        return getAction(methodId, projectId).getMethod();
+    }
 
-        for (int i = 0; i < parameterTypes.length; i++) {
-            if (parameterTypes[i].isAssignableFrom(IArgument.class)) {
-                result[i] = arguments.get(i);
-                logger.info(String.format("IArgument Parameter from Method: %s, Argument type from front end: %s",
-                        parameterTypes[i], arguments.get(i).getClass()));
+    @Override
+    public ActionLease leaseAction(String methodId, String projectId) throws NoSuchMethodException {
+        ProjectActions project;
+        while ((project = projects.get(projectId)) != null) {
+            if (!project.enter()) {
+                // A retired version is never current; drop it in case it is still mapped
+                projects.remove(projectId, project);
                 continue;
             }
+            ActionDescriptor action = project.getRegistry().get(methodId);
+            if (action != null) return new ActionLease(project, action);
+            project.exit();
+            break;
+        }
+        logger.log(Level.SEVERE, String.format("Method with Id %s not found in project %s.", methodId, projectId));
+        throw new NoSuchMethodException("Method not found.");
+    }
 
-            if (hasVarargs && i == parameterTypes.length - 1) {
-                Class<?> varargsType = parameterTypes[i].getComponentType();
-                int varargsLength = arguments.size() - i;
-                Object varargsArray = newInstance(varargsType, varargsLength);
-                for (int j = 0; j < varargsLength; j++) {
-                    String value = arguments.get(i + j).getValue();
-                    logger.info("Array of Values from TestData: " + value);
-                    try {
-                        set(varargsArray, j, objectMapper.readValue(value, varargsType));
-                    } catch (JsonProcessingException e) {
-                        try {
-                            set(varargsArray, j, objectMapper.convertValue(value, varargsType));
-                        } catch (Exception e2) {
-                            throw new IncompatibleParameterTypeException(e2.getMessage());
-                        }
-                    }
+    @Override
+    public ActionDescriptor getAction(String methodId, String projectId) throws NoSuchMethodException {
+        ProjectActions project = projects.get(projectId);
+        ActionDescriptor action = project != null ? project.getRegistry().get(methodId) : null;
+        if (action == null) {
+            logger.log(Level.SEVERE, String.format("Method with Id %s not found in project %s.", methodId, projectId));
+            throw new NoSuchMethodException("Method not found.");
+        }
+        return action;
+    }
+
+    @Override
+    public Object invokeAction(ActionDescriptor action, Object classObject, List<IArgument> methodArguments, Configuration configuration) throws NoSuchMethodException {
+        String methodId = action.getMethodId();
+        Method method = action.getMethod();
+        stepLog.step("Fetched Method with id : {0}, name: {1}", methodId, method.getName());
+        stepLog.step("class object : {0}", classObject);
+
+        long timeout = configuration.MAX_TIME_OUT();
+        if (timeout<=0){
+            timeout=90000;
+        }
+        try {
+            if (Optional.ofNullable(methodArguments).isPresent()) {
+                long bindingStart = metrics.start();
+                Object[] args = action.getBindingPlan().bind(methodArguments);
+                metrics.stop(methodId, StepPhase.BINDING, bindingStart);
+                IActionInvoker invoker = action.getInvoker();
+                long invocationStart = metrics.start();
+                Object result = stepExecutor.execute(methodId, () -> invoker.invoke(classObject, args), timeout);
+                metrics.stop(methodId, StepPhase.INVOCATION, invocationStart);
+
+                // Update runtime parameter if it is a variable argument
+                if (method.isVarArgs()) {
+                    Object varargsArray = args[args.length - 1];
+                    int lastIndex = getLength(varargsArray) - 1;
+                    Object updatedValue = get(varargsArray, lastIndex);
+                    methodArguments.get(methodArguments.size() - 1).updateValue(updatedValue.toString());
+                    stepLog.step("Stored Value: {0}", updatedValue);
                 }
-                result[i] = varargsArray;
+                return result;
             } else {
-                String value = arguments.get(i).getValue();
-                logger.info("Value from TestData: " + value);
-                try {
-                    result[i] = objectMapper.readValue(value, parameterTypes[i]);
-                } catch (JsonProcessingException e) {
-                    try {
-                        result[i] = objectMapper.convertValue(value, parameterTypes[i]);
-                    } catch (Exception e2) {
-                        throw new IncompatibleParameterTypeException(e2.getMessage());
-                    }
-                }
+                logger.log(Level.SEVERE, "Method Arguments set to null for method : " + methodId);
+                throw new NullMethodParameterException("Method Arguments are null.");
             }
+        } catch (StepTimeoutException e) {
+            logger.log(Level.SEVERE, String.format("Method with Id %s could not be invoked within the timeout period.", methodId));
+            throw e;
+        } catch (InvocationTargetException ex) {
+            logger.log(Level.SEVERE, String.format("Method with Id %s could not be invoked.", methodId));
+            logger.info("Step Exception: " + ex.getCause());
+            throw new MethodInvocationFailedException(ex.getCause().getMessage());
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, String.format("Method with Id %s could not be invoked.", methodId));
+            logger.info("Step Exception");
+            throw new MethodInvocationFailedException(e.getMessage());
         }
-        return result;
     }
-
-
 }
@@ -5,9 +5,13 @@ import java.io.IOException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Level;
@@ -17,12 +21,106 @@ public class CustomPackageScanner {
     private static final Logger logger = Logger.getLogger(CustomPackageScanner.class.getName());
     public CustomPackageScanner() {}
 
+    /**
+     * @SyncAction methods under the package. Uses the build-time index when present and
+     * falls back to a bytecode scan of the package otherwise; no class is loaded either way.
+     */
+    public static List<SyncActionIndex.Entry> getSyncActions(String packageName, ClassLoader classLoader) throws IOException {
+        Optional<List<SyncActionIndex.Entry>> index = SyncActionIndex.load(classLoader);
+        if (index.isPresent()) {
+            logger.info("Retrieving @SyncAction methods from index for package: " + packageName);
+            List<SyncActionIndex.Entry> entries = new ArrayList<>();
+            for (SyncActionIndex.Entry entry : index.get()) {
+                if (entry.inPackage(packageName)) entries.add(entry);
+            }
+            return entries;
+        }
+        return scanSyncActions(packageName, classLoader);
+    }
+
+    public static List<SyncActionIndex.Entry> getSyncActions(String packageName) throws IOException {
+        return getSyncActions(packageName, CustomPackageScanner.class.getClassLoader());
+    }
+
+    /**
+     * Classes declaring @SyncAction methods. Only the matching classes are loaded.
+     */
+    public static List<Class<?>> getSyncActionClasses(String packageName) throws IOException {
+        ClassLoader classLoader = CustomPackageScanner.class.getClassLoader();
+        return SyncActionIndex.classesIn(getSyncActions(packageName, classLoader), packageName, classLoader);
+    }
+
+    /**
+     * Reads class files under the package directly, without loading them, and returns their
+     * @SyncAction methods. Directory subtrees and jar entries are parsed in parallel, and
+     * sources unchanged since the last scan are served from the {@link ScanCache}. Builds
+     * with the annotation processor are served from the index instead; this scan covers
+     * projects built without it, and the watch-mode registry.
+     */
+    public static List<SyncActionIndex.Entry> scanSyncActions(String packageName, ClassLoader classLoader) throws IOException {
+        String project = classLoader instanceof ProjectClassLoader projectClassLoader ? projectClassLoader.getProjectId() : "default";
+        ScanCache cache = ScanCache.load(project + "-" + packageName);
+        List<SyncActionIndex.Entry> entries = scanSyncActions(packageName, classLoader, cache);
+        cache.save();
+        return entries;
+    }
+
+    /**
+     * Same as {@link #scanSyncActions(String, ClassLoader)} with an explicit cache, or none if null.
+     */
+    public static List<SyncActionIndex.Entry> scanSyncActions(String packageName, ClassLoader classLoader, ScanCache cache) throws IOException {
+        logger.info("Scanning bytecode of package: " + packageName);
+        String path = packageName.replace('.', '/');
+        List<SyncActionIndex.Entry> entries = new ArrayList<>();
+        Enumeration<URL> resources = classLoader.getResources(path);
+        while (resources.hasMoreElements()) {
+            URL directory = resources.nextElement();
+            String protocol = directory.getProtocol();
+            if ("file".equals(protocol)) {
+                File dir = new File(URLDecoder.decode(directory.getFile(), StandardCharsets.UTF_8));
+                entries.addAll(ForkJoinPool.commonPool().invoke(new DirectoryScanTask(dir, cache)));
+            } else if ("jar".equals(protocol)) {
+                String filePath = jarFilePath(directory);
+                try {
+                    entries.addAll(scanJar(filePath, path, cache));
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, String.format("Error reading jar: %s, message: %s", filePath, e.getMessage()));
+                }
+            } else {
+                logger.log(Level.WARNING, "Unhandled protocol: " + protocol);
+            }
+        }
+        return entries;
+    }
+
+    private static List<SyncActionIndex.Entry> scanJar(String filePath, String path, ScanCache cache) throws IOException {
+        File jar = new File(filePath);
+        String jarKey = "jar:" + filePath + "#" + path;
+        ScanCache.Fingerprint jarFingerprint = new ScanCache.Fingerprint(jar.length(), jar.lastModified());
+        if (cache != null) {
+            List<SyncActionIndex.Entry> cached = cache.lookup(jarKey, jarFingerprint);
+            if (cached != null) {
+                cache.retain("jar:" + filePath + "!");
+                return cached;
+            }
+        }
+        try (MappedJarReader reader = MappedJarReader.open(jar.toPath())) {
+            int[] classEntries = reader.find(path, ".class");
+            List<SyncActionIndex.Entry> entries = ForkJoinPool.commonPool()
+                    .invoke(new JarScanTask(reader, filePath, classEntries, 0, classEntries.length, cache));
+            if (cache != null) cache.store(jarKey, jarFingerprint, entries);
+            return entries;
+        }
+    }
+
     public static List<Class<?>> getClasses(String packageName) throws ClassNotFoundException, IOException {
+        return getClasses(packageName, CustomPackageScanner.class.getClassLoader());
+    }
+
+    public static List<Class<?>> getClasses(String packageName, ClassLoader classLoader) throws ClassNotFoundException, IOException {
         logger.info("Retrieving classes from package: " + packageName);
         String path = packageName.replace('.', '/');
 
-        ClassLoader classLoader = CustomPackageScanner.class.getClassLoader();
-
         Enumeration<URL> resources = classLoader.getResources(path);
         List<URL> dirs = new ArrayList<>();
         while (resources.hasMoreElements()) {
@@ -36,15 +134,11 @@ public class CustomPackageScanner {
             String protocol = directory.getProtocol();
             if ("file".equals(protocol)) {
                 File dir = new File(URLDecoder.decode(directory.getFile(), StandardCharsets.UTF_8));
-                classes.addAll(findClasses(dir, packageName));
+                classes.addAll(findClasses(dir, packageName, classLoader));
             } else if ("jar".equals(protocol)) {
-                String filePath = directory.getFile();
-                if (filePath.startsWith("file:")) {
-                    filePath = filePath.substring(5, filePath.indexOf("!"));
-                }
-                try {
-                    filePath = URLDecoder.decode(filePath, StandardCharsets.UTF_8);
-                    classes.addAll(findClassesInJar(new JarFile(filePath), path));
+                String filePath = jarFilePath(directory);
+                try (JarFile jarFile = new JarFile(filePath)) {
+                    classes.addAll(findClassesInJar(jarFile, path, classLoader));
                 } catch (IOException e) {
                     logger.log(Level.WARNING,String.format("Error decoding file path: %s, message: %s", filePath, e.getMessage()));
                 }
@@ -55,7 +149,15 @@ public class CustomPackageScanner {
         return classes;
     }
 
-    private static List<Class<?>> findClasses(File directory, String packageName) throws ClassNotFoundException {
+    private static String jarFilePath(URL directory) {
+        String filePath = directory.getFile();
+        if (filePath.startsWith("file:")) {
+            filePath = filePath.substring(5, filePath.indexOf("!"));
+        }
+        return URLDecoder.decode(filePath, StandardCharsets.UTF_8);
+    }
+
+    private static List<Class<?>> findClasses(File directory, String packageName, ClassLoader classLoader) throws ClassNotFoundException {
         List<Class<?>> classes = new ArrayList<>();
         if (!directory.exists()) {
             logger.log(Level.WARNING,"Directory does not exist: " + directory.getAbsolutePath());
@@ -69,14 +171,14 @@ public class CustomPackageScanner {
         for (File file : files) {
             if (file.isDirectory()) {
                 try {
-                    classes.addAll(findClasses(file, packageName + "." + file.getName()));
+                    classes.addAll(findClasses(file, packageName + "." + file.getName(), classLoader));
                 } catch (Exception e) {
                     logger.warning("Error occurred while adding the class from jar: "+e.getMessage());
                 }
             } else if (file.getName().endsWith(".class")) {
                 String className = packageName + '.' + file.getName().substring(0, file.getName().length() - 6);
                 try {
-                    classes.add(Class.forName(className));
+                    classes.add(Class.forName(className, true, classLoader));
                 } catch (NoClassDefFoundError e) {
                     logger.warning("Error occurred while adding the class: "+e.getMessage());
                 }
@@ -85,7 +187,7 @@ public class CustomPackageScanner {
         return classes;
     }
 
-    private static List<Class<?>> findClassesInJar(JarFile jarFile, String path) throws ClassNotFoundException {
+    private static List<Class<?>> findClassesInJar(JarFile jarFile, String path, ClassLoader classLoader) throws ClassNotFoundException {
         List<Class<?>> classes = new ArrayList<>();
         Enumeration<JarEntry> entries = jarFile.entries();
         while (entries.hasMoreElements()) {
@@ -94,7 +196,7 @@ public class CustomPackageScanner {
             if (entryName.startsWith(path) && entryName.endsWith(".class") && !entry.isDirectory()) {
                 String className = entryName.replace('/', '.').substring(0, entryName.length() - 6);
                 try {
-                    classes.add(Class.forName(className));
+                    classes.add(Class.forName(className, true, classLoader));
                 } catch (NoClassDefFoundError e) {
                     logger.warning("Failed to load the class: "+className+" reason: "+e.getMessage());
                 }
@@ -102,4 +204,106 @@ public class CustomPackageScanner {
         }
         return classes;
     }
+
+    private static class DirectoryScanTask extends RecursiveTask<List<SyncActionIndex.Entry>> {
+        private final File directory;
+        private final ScanCache cache;
+
+        DirectoryScanTask(File directory, ScanCache cache) {
+            this.directory = directory;
+            this.cache = cache;
+        }
+
+        @Override
+        protected List<SyncActionIndex.Entry> compute() {
+            List<SyncActionIndex.Entry> entries = new ArrayList<>();
+            File[] files = directory.listFiles();
+            if (files == null) {
+                logger.log(Level.WARNING, "No files in directory: " + directory.getAbsolutePath());
+                return entries;
+            }
+            List<DirectoryScanTask> subtrees = new ArrayList<>();
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    subtrees.add(new DirectoryScanTask(file, cache));
+                }
+            }
+            invokeAll(subtrees);
+            for (File file : files) {
+                if (file.getName().endsWith(".class")) {
+                    try {
+                        String key = file.getAbsolutePath();
+                        ScanCache.Fingerprint fingerprint = new ScanCache.Fingerprint(file.length(), file.lastModified());
+                        List<SyncActionIndex.Entry> cached = cache != null ? cache.lookup(key, fingerprint) : null;
+                        if (cached == null) {
+                            cached = SyncActionClassReader.read(Files.readAllBytes(file.toPath()));
+                            if (cache != null) cache.store(key, fingerprint, cached);
+                        }
+                        entries.addAll(cached);
+                    } catch (IOException e) {
+                        logger.warning("Error occurred while reading the class: " + file + " reason: " + e.getMessage());
+                    }
+                }
+            }
+            for (DirectoryScanTask subtree : subtrees) {
+                entries.addAll(subtree.join());
+            }
+            return entries;
+        }
+    }
+
+    private static class JarScanTask extends RecursiveTask<List<SyncActionIndex.Entry>> {
+        private static final int THRESHOLD = 256;
+        private final MappedJarReader reader;
+        private final String jarPath;
+        private final int[] classEntries;
+        private final int from;
+        private final int to;
+        private final ScanCache cache;
+
+        JarScanTask(MappedJarReader reader, String jarPath, int[] classEntries, int from, int to, ScanCache cache) {
+            this.reader = reader;
+            this.jarPath = jarPath;
+            this.classEntries = classEntries;
+            this.from = from;
+            this.to = to;
+            this.cache = cache;
+        }
+
+        @Override
+        protected List<SyncActionIndex.Entry> compute() {
+            if (to - from > THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                JarScanTask left = new JarScanTask(reader, jarPath, classEntries, from, middle, cache);
+                left.fork();
+                List<SyncActionIndex.Entry> entries = new JarScanTask(reader, jarPath, classEntries, middle, to, cache).compute();
+                entries.addAll(0, left.join());
+                return entries;
+            }
+            List<SyncActionIndex.Entry> entries = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                int record = classEntries[i];
+                List<SyncActionIndex.Entry> cached = null;
+                String key = null;
+                ScanCache.Fingerprint fingerprint = null;
+                if (cache != null) {
+                    key = "jar:" + jarPath + "!" + reader.name(record);
+                    fingerprint = new ScanCache.Fingerprint(reader.size(record), reader.crc(record));
+                    cached = cache.lookup(key, fingerprint);
+                }
+                if (cached != null) {
+                    entries.addAll(cached);
+                    continue;
+                }
+                try {
+                    List<SyncActionIndex.Entry> found = SyncActionClassReader.read(reader.read(record));
+                    if (cache != null) cache.store(key, fingerprint, found);
+                    entries.addAll(found);
+                } catch (IOException e) {
+                    logger.warning("Failed to read the class: " + reader.name(record) + " reason: " + e.getMessage());
+                }
+            }
+            return entries;
+        }
+    }
 }
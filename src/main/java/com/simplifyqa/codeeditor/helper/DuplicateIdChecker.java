@@ -17,7 +17,7 @@ public class DuplicateIdChecker {
 
     public static void main(String[] args) throws Exception {
         String packageName = "com.simplifyqa.codeeditor";
-        List<Class<?>> classes = CustomPackageScanner.getClasses(packageName);
+        List<Class<?>> classes = CustomPackageScanner.getSyncActionClasses(packageName);
         logger.info("\u001B[1m\u001B[32m" + "[INFO]" + "\u001B[0m"+"Fetching Unique Ids from classes: " + classes);
         registerMethodsFromClass(classes);
         if (!buildStatus) {
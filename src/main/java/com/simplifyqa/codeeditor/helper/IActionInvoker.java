@@ -0,0 +1,30 @@
+package com.simplifyqa.codeeditor.helper;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pre-compiled call site for a single @SyncAction method. Exceptions thrown by the
+ * user method are always reported as {@link InvocationTargetException} so callers
+ * behave the same regardless of the engine behind it.
+ */
+public interface IActionInvoker {
+    Logger log = Logger.getLogger(IActionInvoker.class.getName());
+
+    Object invoke(Object classObject, Object[] args) throws InvocationTargetException, IllegalAccessException;
+
+    /**
+     * Builds a MethodHandle backed invoker for the method, falling back to plain
+     * reflection if the handle cannot be created (e.g. inaccessible declaring class).
+     */
+    static IActionInvoker compile(Method method) {
+        try {
+            return new MethodHandleActionInvoker(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.log(Level.WARNING, String.format("Falling back to reflective invocation for method: %s, reason: %s", method.getName(), e.getMessage()));
+            return new ReflectiveActionInvoker(method);
+        }
+    }
+}
@@ -4,10 +4,30 @@ import com.simplifyqa.pluginbase.argument.IArgument;
 import com.simplifyqa.pluginbase.common.models.Configuration;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 
 public interface ICustomMethodInvoker {
     public void registerMethodsFromPackage(List<String> packageName);
+    public void registerProject(String projectId, List<Path> classpath, List<String> packageName);
+    public void registerProject(String projectId, List<Path> classpath, List<String> packageName, Runnable onUnload);
+    public boolean unloadProject(String projectId);
+    public Set<String> getProjectIds();
+    public ClassLoader getProjectClassLoader(String projectId);
     public Object invokeMethod(String methodId,String projectId, Object classObject, List<IArgument> methodArguments, Configuration configuration) throws NoSuchMethodException;
     public Method getMethod(String methodId,String projectId) throws NoSuchMethodException;
+
+    /**
+     * The registered action for the method id, resolved and validated. Executing a step
+     * needs only this one lookup; the descriptor is then passed to {@link #invokeAction}.
+     */
+    public ActionDescriptor getAction(String methodId, String projectId) throws NoSuchMethodException;
+
+    /**
+     * Same lookup as {@link #getAction}, keeping the project version the action belongs to
+     * loaded until the lease is closed, even across a reload.
+     */
+    public ActionLease leaseAction(String methodId, String projectId) throws NoSuchMethodException;
+    public Object invokeAction(ActionDescriptor action, Object classObject, List<IArgument> methodArguments, Configuration configuration) throws NoSuchMethodException;
 }
\ No newline at end of file
@@ -7,34 +7,65 @@ import com.simplifyqa.pluginbase.plugin.sync.models.ActionData;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public interface ISyncActions {
       Logger log = Logger.getLogger(ISyncActions.class.getName());
     static List<ActionData> getActionList(List<String> packageName) {
-        List<ActionData> actionDataList = new ArrayList<>();
+        return getActionList(packageName, ISyncActions.class.getClassLoader(), CodeEditorPlugin.projectId);
+    }
+
+    static List<ActionData> getActionList(List<String> packageName, ClassLoader classLoader, String projectId) {
+        List<ActionData> actionDataList = new ArrayList<>(getActionsById(packageName, classLoader, projectId).values());
+        log.info("ActionDataList from code editor plugin: "+ actionDataList);
+        return actionDataList;
+    }
+
+    /**
+     * Public @SyncAction methods as ActionData, keyed by uniqueId in scan order.
+     */
+    static Map<String, ActionData> getActionsById(List<String> packageName) {
+        return getActionsById(packageName, ISyncActions.class.getClassLoader(), CodeEditorPlugin.projectId);
+    }
+
+    /**
+     * Same as {@link #getActionsById(List)} for the project loaded by the class loader.
+     */
+    static Map<String, ActionData> getActionsById(List<String> packageName, ClassLoader classLoader, String projectId) {
+        Map<String, ActionData> actions = new LinkedHashMap<>();
+        getSyncedActions(packageName, classLoader, projectId).forEach((uniqueId, action) -> actions.put(uniqueId, action.data()));
+        return actions;
+    }
+
+    /**
+     * Same as {@link #getActionsById(List, ClassLoader, String)}, with the content each action is tracked by.
+     */
+    static Map<String, ActionSyncTracker.SyncedAction> getSyncedActions(List<String> packageName, ClassLoader classLoader, String projectId) {
+        Map<String, ActionSyncTracker.SyncedAction> actions = new LinkedHashMap<>();
         try {
             for (String s : packageName) {
-                List<Class<?>> classes = CustomPackageScanner.getClasses(s);
-                classes.forEach(clazz -> actionDataList.addAll(getAllActions(clazz)));
+                actions.putAll(getAllActions(CustomPackageScanner.getSyncActions(s, classLoader), classLoader, projectId));
             }
         } catch (Exception e) {
             log.log(Level.SEVERE,"Failed to collect the actionDataList");
         }
-        log.info("ActionDataList from code editor plugin: "+ actionDataList);
-        return actionDataList;
+        return actions;
     }
 
-    private static List<ActionData> getAllActions(Class<?> clazz) {
-        List<ActionData> actionDataList = new ArrayList<>();
-        Method[] methods = clazz.getMethods();
-        for (Method method:methods){
-            if (method.isAnnotationPresent(SyncAction.class)){
-                actionDataList.add(ISyncTransformer.transformToSync(method,method.getAnnotation(SyncAction.class), CodeEditorPlugin.projectId));
+    private static Map<String, ActionSyncTracker.SyncedAction> getAllActions(List<SyncActionIndex.Entry> entries, ClassLoader classLoader, String projectId)
+            throws ClassNotFoundException, NoSuchMethodException {
+        Map<String, ActionSyncTracker.SyncedAction> actions = new LinkedHashMap<>();
+        for (SyncActionIndex.Entry entry : entries) {
+            if (entry.isPublic()) {
+                Method method = entry.resolve(classLoader);
+                ActionData data = ISyncTransformer.transformToSync(method, method.getAnnotation(SyncAction.class), projectId);
+                actions.put(entry.uniqueId(), new ActionSyncTracker.SyncedAction(data, ActionSyncTracker.content(entry, method)));
             }
         }
-        return actionDataList;
+        return actions;
     }
 }
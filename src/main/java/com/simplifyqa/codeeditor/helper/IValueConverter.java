@@ -0,0 +1,9 @@
+package com.simplifyqa.codeeditor.helper;
+
+/**
+ * Converts a raw test data value into the type of a single method parameter.
+ */
+@FunctionalInterface
+public interface IValueConverter {
+    Object convert(String value);
+}
@@ -0,0 +1,284 @@
+package com.simplifyqa.codeeditor.helper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads a jar by memory-mapping its zip central directory instead of going through
+ * {@link java.util.zip.ZipFile}. Central directory records are addressed by their offset in
+ * the mapping and sorted by name once, so a package prefix is located by binary search and
+ * no object is created for entries outside it. Entry contents are read with positional
+ * channel reads, which keeps concurrent readers safe.
+ * <p>
+ * {@link #close()} unmaps the directory immediately rather than waiting for GC; the reader
+ * must not be used afterwards.
+ */
+public final class MappedJarReader implements Closeable {
+    private static final Logger logger = Logger.getLogger(MappedJarReader.class.getName());
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_EOCD_SIGNATURE = 0x06064b50;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    private static final int CEN_HEADER = 46;
+    private static final int LOC_HEADER = 30;
+    private static final int MAX_EOCD_SEARCH = 22 + 0xFFFF;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private final FileChannel channel;
+    private MappedByteBuffer directory;
+    private final int[] records;
+
+    private MappedJarReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        int tailSize = (int) Math.min(fileSize, MAX_EOCD_SEARCH);
+        ByteBuffer tail = ByteBuffer.allocate(tailSize).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(tail, fileSize - tailSize);
+        int eocd = tailSize - 22;
+        while (eocd >= 0 && tail.getInt(eocd) != EOCD_SIGNATURE) eocd--;
+        if (eocd < 0) throw new IOException("Not a zip file: end of central directory not found");
+
+        long entryCount = tail.getShort(eocd + 10) & 0xFFFF;
+        long directorySize = tail.getInt(eocd + 12) & ZIP64_MAGIC;
+        long directoryOffset = tail.getInt(eocd + 16) & ZIP64_MAGIC;
+        if (entryCount == 0xFFFF || directorySize == ZIP64_MAGIC || directoryOffset == ZIP64_MAGIC) {
+            if (eocd < 20 || tail.getInt(eocd - 20) != ZIP64_LOCATOR_SIGNATURE) {
+                throw new IOException("Zip64 end of central directory locator not found");
+            }
+            ByteBuffer zip64 = ByteBuffer.allocate(56).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(zip64, tail.getLong(eocd - 20 + 8));
+            if (zip64.getInt(0) != ZIP64_EOCD_SIGNATURE) throw new IOException("Invalid zip64 end of central directory");
+            entryCount = zip64.getLong(32);
+            directorySize = zip64.getLong(40);
+            directoryOffset = zip64.getLong(48);
+        }
+        if (directorySize > Integer.MAX_VALUE || entryCount > Integer.MAX_VALUE) {
+            throw new IOException("Central directory too large to map");
+        }
+        directory = channel.map(FileChannel.MapMode.READ_ONLY, directoryOffset, directorySize);
+        directory.order(ByteOrder.LITTLE_ENDIAN);
+
+        records = new int[(int) entryCount];
+        int offset = 0;
+        for (int i = 0; i < records.length; i++) {
+            if (directory.getInt(offset) != CEN_SIGNATURE) throw new IOException("Invalid central directory record " + i);
+            records[i] = offset;
+            offset += CEN_HEADER + u2(offset + 28) + u2(offset + 30) + u2(offset + 32);
+        }
+        sort(records, new int[records.length], 0, records.length);
+    }
+
+    public static MappedJarReader open(Path jar) throws IOException {
+        FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ);
+        try {
+            return new MappedJarReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return records.length;
+    }
+
+    /**
+     * Records of non-directory entries whose name starts with the prefix and ends with the suffix.
+     */
+    public int[] find(String prefix, String suffix) {
+        byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+        byte[] suffixBytes = suffix.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = records.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparePrefix(records[middle], prefixBytes) < 0) low = middle + 1;
+            else high = middle;
+        }
+        int[] matches = new int[16];
+        int count = 0;
+        for (int i = low; i < records.length && comparePrefix(records[i], prefixBytes) == 0; i++) {
+            int record = records[i];
+            if (endsWith(record, suffixBytes)) {
+                if (count == matches.length) matches = Arrays.copyOf(matches, count * 2);
+                matches[count++] = record;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    public String name(int record) {
+        byte[] name = new byte[u2(record + 28)];
+        directory.get(record + CEN_HEADER, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    public long crc(int record) {
+        return directory.getInt(record + 16) & ZIP64_MAGIC;
+    }
+
+    public long size(int record) {
+        return zip64Values(record)[0];
+    }
+
+    /**
+     * Reads and, if needed, inflates the entry's contents.
+     */
+    public byte[] read(int record) throws IOException {
+        int method = u2(record + 10);
+        long[] values = zip64Values(record);
+        long size = values[0];
+        long compressedSize = values[1];
+        long localOffset = values[2];
+        if (size > Integer.MAX_VALUE || compressedSize > Integer.MAX_VALUE) throw new IOException("Entry too large: " + name(record));
+
+        ByteBuffer header = ByteBuffer.allocate(LOC_HEADER).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(header, localOffset);
+        if (header.getInt(0) != LOC_SIGNATURE) throw new IOException("Invalid local header for " + name(record));
+        long dataOffset = localOffset + LOC_HEADER + (header.getShort(26) & 0xFFFF) + (header.getShort(28) & 0xFFFF);
+        ByteBuffer data = ByteBuffer.allocate((int) compressedSize);
+        readFully(data, dataOffset);
+        if (method == 0) return data.array();
+        if (method != 8) throw new IOException("Unsupported compression method " + method + " for " + name(record));
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data.array());
+            byte[] result = new byte[(int) size];
+            int length = 0;
+            while (length < result.length && !inflater.finished()) {
+                int inflated = inflater.inflate(result, length, result.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                length += inflated;
+            }
+            if (length != result.length) throw new IOException("Truncated entry " + name(record));
+            return result;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt entry " + name(record), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        MappedByteBuffer mapping = directory;
+        directory = null;
+        channel.close();
+        if (mapping != null) unmap(mapping);
+    }
+
+    /**
+     * {uncompressed size, compressed size, local header offset}, resolving zip64 extra fields.
+     */
+    private long[] zip64Values(int record) {
+        long[] values = {
+                directory.getInt(record + 24) & ZIP64_MAGIC,
+                directory.getInt(record + 20) & ZIP64_MAGIC,
+                directory.getInt(record + 42) & ZIP64_MAGIC};
+        if (values[0] != ZIP64_MAGIC && values[1] != ZIP64_MAGIC && values[2] != ZIP64_MAGIC) return values;
+        int extra = record + CEN_HEADER + u2(record + 28);
+        int end = extra + u2(record + 30);
+        while (extra + 4 <= end) {
+            int id = u2(extra);
+            int length = u2(extra + 2);
+            if (id == 0x0001) {
+                int position = extra + 4;
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == ZIP64_MAGIC && position + 8 <= extra + 4 + length) {
+                        values[i] = directory.getLong(position);
+                        position += 8;
+                    }
+                }
+                break;
+            }
+            extra += 4 + length;
+        }
+        return values;
+    }
+
+    private int comparePrefix(int record, byte[] prefix) {
+        int nameLength = u2(record + 28);
+        int length = Math.min(nameLength, prefix.length);
+        for (int i = 0; i < length; i++) {
+            int difference = (directory.get(record + CEN_HEADER + i) & 0xFF) - (prefix[i] & 0xFF);
+            if (difference != 0) return difference;
+        }
+        return nameLength >= prefix.length ? 0 : -1;
+    }
+
+    private boolean endsWith(int record, byte[] suffix) {
+        int nameLength = u2(record + 28);
+        if (nameLength < suffix.length) return false;
+        int start = record + CEN_HEADER + nameLength - suffix.length;
+        for (int i = 0; i < suffix.length; i++) {
+            if (directory.get(start + i) != suffix[i]) return false;
+        }
+        return true;
+    }
+
+    private int compareNames(int left, int right) {
+        int leftLength = u2(left + 28);
+        int rightLength = u2(right + 28);
+        int length = Math.min(leftLength, rightLength);
+        for (int i = 0; i < length; i++) {
+            int difference = (directory.get(left + CEN_HEADER + i) & 0xFF) - (directory.get(right + CEN_HEADER + i) & 0xFF);
+            if (difference != 0) return difference;
+        }
+        return leftLength - rightLength;
+    }
+
+    private void sort(int[] values, int[] buffer, int from, int to) {
+        if (to - from < 2) return;
+        int middle = (from + to) >>> 1;
+        sort(values, buffer, from, middle);
+        sort(values, buffer, middle, to);
+        if (compareNames(values[middle - 1], values[middle]) <= 0) return;
+        System.arraycopy(values, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && compareNames(buffer[left], buffer[right]) <= 0)) {
+                values[i] = buffer[left++];
+            } else {
+                values[i] = buffer[right++];
+            }
+        }
+    }
+
+    private int u2(int index) {
+        return directory.getShort(index) & 0xFFFF;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new IOException("Unexpected end of file");
+        }
+    }
+
+    private static void unmap(MappedByteBuffer mapping) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(field.get(null), mapping);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.log(Level.FINE, "Mapped jar directory will be released by GC: " + e.getMessage());
+        }
+    }
+}
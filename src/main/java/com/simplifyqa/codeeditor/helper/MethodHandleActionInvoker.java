@@ -0,0 +1,36 @@
+package com.simplifyqa.codeeditor.helper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes a method through a pre-bound {@link MethodHandle} adapted once to
+ * {@code (Object, Object[])Object}, avoiding the per-call access checks of {@link Method#invoke}.
+ */
+public class MethodHandleActionInvoker implements IActionInvoker {
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private final MethodHandle handle;
+
+    public MethodHandleActionInvoker(Method method) throws IllegalAccessException {
+        MethodHandle target = MethodHandles.lookup().unreflect(method).asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+            target = MethodHandles.dropArguments(target, 0, Object.class);
+        }
+        this.handle = target.asType(target.type().generic())
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(INVOKER_TYPE);
+    }
+
+    @Override
+    public Object invoke(Object classObject, Object[] args) throws InvocationTargetException {
+        try {
+            return (Object) handle.invokeExact(classObject, args);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Actions of one loaded version of a project: its class loader, its registry and the caches
+ * keyed by its classes. Nothing here is shared with other projects, so dropping the instance
+ * and closing its loader leaves no reference to the project's classes behind.
+ * <p>
+ * Steps enter the version for as long as they run. A version replaced by a reload, or
+ * unloaded, is retired: it admits no new steps and closes its loader once the last running
+ * step has left.
+ */
+final class ProjectActions {
+    private static final Logger logger = Logger.getLogger(ProjectActions.class.getName());
+
+    private final String projectId;
+    private final ClassLoader classLoader;
+    private final TypeCoercionEngine coercionEngine;
+    private final ActionValidator validator;
+    private final Runnable onClose;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile ActionRegistry registry = ActionRegistry.empty();
+    private volatile boolean retired;
+    private boolean closed;
+
+    ProjectActions(String projectId, ClassLoader classLoader, Runnable onClose) {
+        this.projectId = projectId;
+        this.classLoader = classLoader;
+        this.coercionEngine = new TypeCoercionEngine(new ObjectMapper());
+        this.validator = new ActionValidator(coercionEngine);
+        this.onClose = onClose;
+    }
+
+    String getProjectId() {
+        return projectId;
+    }
+
+    ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    ActionRegistry getRegistry() {
+        return registry;
+    }
+
+    void setRegistry(ActionRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * The id actions of this project are registered and looked up under.
+     */
+    String methodId(String uniqueId) {
+        return projectId + "_" + uniqueId;
+    }
+
+    ActionDescriptor describe(SyncActionIndex.Entry entry) {
+        return ActionDescriptor.lazy(methodId(entry.uniqueId()), entry, classLoader, coercionEngine, validator);
+    }
+
+    /**
+     * Pins this version for a running step. False once retired; the caller should look the
+     * project up again.
+     */
+    boolean enter() {
+        inFlight.incrementAndGet();
+        if (retired) {
+            exit();
+            return false;
+        }
+        return true;
+    }
+
+    void exit() {
+        if (inFlight.decrementAndGet() == 0 && retired) {
+            closeIfIdle();
+        }
+    }
+
+    boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * Stops admitting steps and closes the loader as soon as no step is running on it.
+     */
+    void retire() {
+        retired = true;
+        if (inFlight.get() == 0) {
+            closeIfIdle();
+        }
+    }
+
+    private void closeIfIdle() {
+        synchronized (this) {
+            if (closed || inFlight.get() != 0) return;
+            closed = true;
+        }
+        registry = ActionRegistry.empty();
+        try {
+            if (classLoader instanceof ProjectClassLoader projectClassLoader) {
+                projectClassLoader.close();
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, String.format("Class loader of project %s could not be closed: %s", projectId, e.getMessage()));
+        }
+        if (onClose != null) onClose.run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.simplifyqa.codeeditor.helper;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Class loader for one customer project's jar or classes directory. The project's own
+ * classes and resources are looked up in its classpath first, so two projects can ship
+ * classes of the same name, and the build-time @SyncAction index or a package scan only
+ * ever sees this project. Only the JDK, the plugin base API, Jackson and this plugin's
+ * runtime are delegated to the parent and shared by every project.
+ * <p>
+ * Closing the loader releases its jar files; once its actions are unregistered nothing
+ * else references it and its classes can be collected.
+ */
+public class ProjectClassLoader extends URLClassLoader {
+    private static final List<String> SHARED_PACKAGES = List.of(
+            "java.", "javax.", "jdk.", "sun.", "com.sun.",
+            "com.simplifyqa.pluginbase.", "com.fasterxml.jackson.",
+            "com.simplifyqa.codeeditor.helper.", "com.simplifyqa.codeeditor.plugin.",
+            "com.simplifyqa.codeeditor.exceptions.", "com.simplifyqa.codeeditor.processor.");
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final String projectId;
+
+    public ProjectClassLoader(String projectId, URL[] classpath, ClassLoader parent) {
+        super("codeeditor-project-" + projectId, classpath, parent);
+        this.projectId = projectId;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (isShared(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                try {
+                    loaded = findClass(name);
+                } catch (ClassNotFoundException e) {
+                    loaded = getParent().loadClass(name);
+                }
+            }
+            if (resolve) resolveClass(loaded);
+            return loaded;
+        }
+    }
+
+    @Override
+    public URL getResource(String name) {
+        if (isShared(name.replace('/', '.'))) {
+            return super.getResource(name);
+        }
+        URL resource = findResource(name);
+        return resource != null ? resource : getParent().getResource(name);
+    }
+
+    /**
+     * Resources of the project's own classpath only, except for shared packages.
+     */
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+        return isShared(name.replace('/', '.')) ? super.getResources(name) : findResources(name);
+    }
+
+    private static boolean isShared(String name) {
+        for (String prefix : SHARED_PACKAGES) {
+            if (name.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.simplifyqa.codeeditor.helper;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Fallback invoker that keeps the original {@link Method#invoke} behaviour.
+ */
+public class ReflectiveActionInvoker implements IActionInvoker {
+    private final Method method;
+
+    public ReflectiveActionInvoker(Method method) {
+        this.method = method;
+    }
+
+    @Override
+    public Object invoke(Object classObject, Object[] args) throws InvocationTargetException, IllegalAccessException {
+        return method.invoke(classObject, args);
+    }
+}
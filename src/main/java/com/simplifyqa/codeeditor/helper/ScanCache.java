@@ -0,0 +1,152 @@
+package com.simplifyqa.codeeditor.helper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * On-disk cache of bytecode scan results. Each record maps a scanned source (a class file,
+ * a jar entry or a whole jar package) to the @SyncAction methods found in it, together with
+ * the fingerprint the source had when it was scanned. A source is only parsed again when
+ * its fingerprint changes.
+ * <p>
+ * The cache lives under {@code target/} by default and is only written when that directory
+ * exists; override the location with {@code -Dcodeeditor.scanCache=<file>}. Every scan scope,
+ * i.e. a package of one project, gets its own file next to that location, because a save
+ * keeps only the records its scan saw. Files are replaced atomically, so concurrent scans
+ * never leave a partly written cache behind.
+ */
+public final class ScanCache {
+    private static final Logger logger = Logger.getLogger(ScanCache.class.getName());
+    private static final String CACHE_PROPERTY = "codeeditor.scanCache";
+    private static final String RECORD_PREFIX = "S\t";
+
+    public record Fingerprint(long size, long stamp) {
+    }
+
+    private record Record(Fingerprint fingerprint, List<SyncActionIndex.Entry> entries) {
+    }
+
+    private final Path file;
+    private final Map<String, Record> records = new ConcurrentHashMap<>();
+    private final Set<String> touched = ConcurrentHashMap.newKeySet();
+    private final Set<String> touchedPrefixes = ConcurrentHashMap.newKeySet();
+    private volatile boolean dirty;
+
+    private ScanCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Cache of one scan scope, e.g. a project id and package name.
+     */
+    public static ScanCache load(String scope) {
+        Path location = defaultLocation();
+        return load(location.resolveSibling(location.getFileName() + "-" + scope.replaceAll("[^A-Za-z0-9._-]", "_")));
+    }
+
+    private static Path defaultLocation() {
+        String location = System.getProperty(CACHE_PROPERTY);
+        return location != null ? Paths.get(location) : Paths.get(System.getProperty("user.dir"), "target", "codeeditor-scan-cache");
+    }
+
+    public static ScanCache load(Path file) {
+        ScanCache cache = new ScanCache(file);
+        if (!Files.isRegularFile(file)) return cache;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith(RECORD_PREFIX)) continue;
+                String[] fields = line.split("\t", -1);
+                int count = Integer.parseInt(fields[4]);
+                List<SyncActionIndex.Entry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(SyncActionIndex.Entry.parse(reader.readLine()));
+                }
+                cache.records.put(fields[1], new Record(new Fingerprint(Long.parseLong(fields[2]), Long.parseLong(fields[3])), entries));
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Ignoring unreadable scan cache " + file + ": " + e.getMessage());
+            cache.records.clear();
+        }
+        return cache;
+    }
+
+    /**
+     * Cached entries for the source, or null if it was never scanned or has changed since.
+     */
+    public List<SyncActionIndex.Entry> lookup(String key, Fingerprint fingerprint) {
+        Record record = records.get(key);
+        if (record == null || !record.fingerprint().equals(fingerprint)) return null;
+        touched.add(key);
+        return record.entries();
+    }
+
+    public void store(String key, Fingerprint fingerprint, List<SyncActionIndex.Entry> entries) {
+        records.put(key, new Record(fingerprint, List.copyOf(entries)));
+        touched.add(key);
+        dirty = true;
+    }
+
+    /**
+     * Keeps every record under the prefix, e.g. the per-entry records of an unchanged jar.
+     */
+    public void retain(String keyPrefix) {
+        touchedPrefixes.add(keyPrefix);
+    }
+
+    /**
+     * Drops records not seen during this scan and writes the cache if anything changed.
+     */
+    public void save() {
+        boolean pruned = records.keySet().removeIf(key -> !touched.contains(key)
+                && touchedPrefixes.stream().noneMatch(key::startsWith));
+        if (!(dirty || pruned) || file.getParent() == null || !Files.isDirectory(file.getParent())) return;
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            write(temp);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            dirty = false;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write scan cache " + file + ": " + e.getMessage());
+            try {
+                if (temp != null) Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // best effort, the file is in target/
+            }
+        }
+    }
+
+    private void write(Path target) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Record> record : records.entrySet()) {
+                Fingerprint fingerprint = record.getValue().fingerprint();
+                List<SyncActionIndex.Entry> entries = record.getValue().entries();
+                writer.write(RECORD_PREFIX + record.getKey() + "\t" + fingerprint.size() + "\t" + fingerprint.stamp() + "\t" + entries.size());
+                writer.newLine();
+                for (SyncActionIndex.Entry entry : entries) {
+                    writer.write(entry.toLine());
+                    writer.newLine();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.codeeditor.exceptions.StepTimeoutException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces MAX_TIME_OUT on @SyncAction invocations. The action runs on the calling thread,
+ * inside its lease and on the instance cached for that thread, while a watchdog interrupts
+ * the thread at the deadline; the caller then gets a {@link StepTimeoutException} however
+ * the action ended. An action that ignores interrupts overruns, but never outlives its step.
+ * An interrupt that does not come from the watchdog is left to the action and never
+ * reported as a timeout.
+ * <p>
+ * Retry-until-true polling re-runs a step that returned false until it returns something
+ * else or the deadline is near: -Dcodeeditor.step.pollUntilTrue=true,
+ * -Dcodeeditor.step.pollInterval=&lt;ms&gt; (default 500).
+ */
+public class StepExecutor {
+    private static final StepLog stepLog = StepLog.of(StepExecutor.class);
+    private static final ScheduledThreadPoolExecutor watchdog = createWatchdog();
+
+    private final boolean pollUntilTrue;
+    private final long pollIntervalMillis;
+
+    @FunctionalInterface
+    public interface Invocation {
+        Object call() throws InvocationTargetException, IllegalAccessException;
+    }
+
+    public StepExecutor() {
+        this(Boolean.getBoolean("codeeditor.step.pollUntilTrue"), Long.getLong("codeeditor.step.pollInterval", 500));
+    }
+
+    public StepExecutor(boolean pollUntilTrue, long pollIntervalMillis) {
+        this.pollUntilTrue = pollUntilTrue;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    public Object execute(String methodId, Invocation invocation, long timeoutMillis)
+            throws InvocationTargetException, IllegalAccessException {
+        Watch watch = new Watch(Thread.currentThread());
+        ScheduledFuture<?> alarm = watchdog.schedule(watch::expire, timeoutMillis, TimeUnit.MILLISECONDS);
+        Object result;
+        try {
+            result = poll(methodId, invocation, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        } catch (Throwable e) {
+            if (watch.finish()) throw timeout(methodId, timeoutMillis, e);
+            throw e;
+        } finally {
+            alarm.cancel(false);
+        }
+        if (watch.finish()) throw timeout(methodId, timeoutMillis, null);
+        return result;
+    }
+
+    private Object poll(String methodId, Invocation invocation, long deadline)
+            throws InvocationTargetException, IllegalAccessException {
+        while (true) {
+            Object result = invocation.call();
+            if (!pollUntilTrue || !Boolean.FALSE.equals(result)) {
+                return result;
+            }
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= pollIntervalMillis) {
+                return result;
+            }
+            stepLog.step("Method with Id {0} returned false, retrying in {1} ms", methodId, pollIntervalMillis);
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+        }
+    }
+
+    private static StepTimeoutException timeout(String methodId, long timeoutMillis, Throwable cause) {
+        return new StepTimeoutException(String.format("Method with Id %s did not complete within %s ms", methodId, timeoutMillis), cause);
+    }
+
+    private static ScheduledThreadPoolExecutor createWatchdog() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "codeeditor-step-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Deadline of one step. Whichever of the watchdog and the step gets here first decides
+     * whether the step timed out, so a step finishing right at the deadline is never
+     * interrupted after it has been reported as complete.
+     */
+    private static final class Watch {
+        private final Thread thread;
+        private boolean done;
+        private boolean expired;
+
+        Watch(Thread thread) {
+            this.thread = thread;
+        }
+
+        synchronized void expire() {
+            if (done) return;
+            done = true;
+            expired = true;
+            thread.interrupt();
+        }
+
+        /**
+         * Ends the step on its own thread, clearing the watchdog's interrupt if there was one.
+         *
+         * @return whether the deadline passed before the step finished
+         */
+        synchronized boolean finish() {
+            done = true;
+            if (expired) Thread.interrupted();
+            return expired;
+        }
+    }
+}
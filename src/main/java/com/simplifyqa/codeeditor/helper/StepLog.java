@@ -0,0 +1,76 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.codeeditor.debugconsole.LogStreamHandler;
+import com.simplifyqa.codeeditor.debugconsole.LogStreamServer;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Logging for messages emitted on every step. Messages use java.util.logging
+ * {@code {0}}-style placeholders and are only formatted by the handler, so a disabled
+ * message costs a level check and nothing else. The source is reported as the owning
+ * class, which spares the stack walk java.util.logging would otherwise do to infer the
+ * caller. -Dcodeeditor.log.quiet=true silences per-step messages entirely while keeping
+ * warnings and errors; -Dcodeeditor.log.async=true hands records to an
+ * {@link AsyncLogHandler}, and -Dcodeeditor.logStream.port=&lt;port&gt; streams them to
+ * subscribers through a {@link LogStreamServer}.
+ */
+public final class StepLog {
+    public static final String ROOT_LOGGER = "com.simplifyqa.codeeditor";
+    private static final boolean quiet = Boolean.getBoolean("codeeditor.log.quiet");
+    private static LogStreamServer logStream;
+    private final Logger logger;
+
+    private StepLog(Logger logger) {
+        this.logger = logger;
+    }
+
+    public static StepLog of(Class<?> type) {
+        return new StepLog(Logger.getLogger(type.getName()));
+    }
+
+    /**
+     * Installs the async handler when requested. Safe to call more than once.
+     */
+    public static synchronized void configure() {
+        Logger root = Logger.getLogger(ROOT_LOGGER);
+        if (Boolean.getBoolean("codeeditor.log.async")) {
+            AsyncLogHandler.install(root, Integer.getInteger("codeeditor.log.bufferSize", 8192));
+        }
+        Integer streamPort = Integer.getInteger("codeeditor.logStream.port");
+        if (streamPort != null && logStream == null) {
+            try {
+                logStream = LogStreamHandler.install(root, streamPort, Integer.getInteger("codeeditor.logStream.replay", 1000));
+            } catch (IOException e) {
+                root.log(Level.WARNING, String.format("Log stream could not be started on port %s: %s", streamPort, e.getMessage()));
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return !quiet && logger.isLoggable(Level.INFO);
+    }
+
+    public void step(String message) {
+        if (isEnabled()) logger.logp(Level.INFO, logger.getName(), null, message);
+    }
+
+    public void step(String message, Object arg) {
+        if (isEnabled()) logger.logp(Level.INFO, logger.getName(), null, message, arg);
+    }
+
+    public void step(String message, Object arg1, Object arg2) {
+        if (isEnabled()) logger.logp(Level.INFO, logger.getName(), null, message, new Object[]{arg1, arg2});
+    }
+
+    public void step(String message, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled()) logger.logp(Level.INFO, logger.getName(), null, message, new Object[]{arg1, arg2, arg3});
+    }
+
+    public void step(Supplier<String> message) {
+        if (isEnabled()) logger.logp(Level.INFO, logger.getName(), null, message);
+    }
+}
@@ -0,0 +1,277 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.codeeditor.processor.SyncActionIndexProcessor;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal class file parser that finds @SyncAction methods without loading the class.
+ * Classes whose constant pool does not mention the annotation descriptor are rejected
+ * before their members are parsed, which covers the vast majority of classes.
+ */
+public final class SyncActionClassReader {
+    private static final byte[] SYNC_ACTION_DESCRIPTOR =
+            ("L" + SyncActionIndexProcessor.SYNC_ACTION.replace('.', '/') + ";").getBytes(StandardCharsets.UTF_8);
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final int ACC_PUBLIC = 0x0001;
+    /**
+     * Class files only store explicitly set annotation values, so the declared default is
+     * filled in here, the same value the annotation processor writes to the index.
+     */
+    private static final String DEFAULT_GROUP_NAME = annotationDefault("groupName");
+
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private int[] offsets;
+
+    private SyncActionClassReader(byte[] bytes) {
+        this.bytes = bytes;
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Returns the @SyncAction methods declared by the class file, or an empty list when
+     * there are none or the bytes are not a readable class file.
+     */
+    public static List<SyncActionIndex.Entry> read(byte[] classFile) {
+        try {
+            return new SyncActionClassReader(classFile).parse();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | IOException e) {
+            return List.of();
+        }
+    }
+
+    private List<SyncActionIndex.Entry> parse() throws IOException {
+        if (buffer.getInt() != 0xCAFEBABE) return List.of();
+        buffer.position(buffer.position() + 4);
+        int annotationIndex = readConstantPool();
+        if (annotationIndex == 0) return List.of();
+
+        buffer.getShort();
+        String className = utf8(classNameIndex(u2())).replace('/', '.');
+        buffer.getShort();
+        skip(2 * u2());
+        int fieldCount = u2();
+        for (int i = 0; i < fieldCount; i++) {
+            skip(6);
+            skipAttributes();
+        }
+
+        List<SyncActionIndex.Entry> entries = new ArrayList<>();
+        int methodCount = u2();
+        for (int i = 0; i < methodCount; i++) {
+            int access = u2();
+            String name = utf8(u2());
+            String descriptor = utf8(u2());
+            int attributeCount = u2();
+            for (int a = 0; a < attributeCount; a++) {
+                String attributeName = utf8(u2());
+                int length = buffer.getInt();
+                int end = buffer.position() + length;
+                if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                    String[] values = readSyncAction(annotationIndex);
+                    if (values != null) {
+                        entries.add(new SyncActionIndex.Entry(values[0], className, name, parameterTypes(descriptor),
+                                values[1], (access & ACC_PUBLIC) != 0));
+                    }
+                }
+                buffer.position(end);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Records each constant's offset and returns the index of the annotation descriptor, or 0.
+     */
+    private int readConstantPool() {
+        int count = u2();
+        offsets = new int[count];
+        int annotationIndex = 0;
+        for (int i = 1; i < count; i++) {
+            int tag = buffer.get() & 0xFF;
+            offsets[i] = buffer.position();
+            switch (tag) {
+                case 1:
+                    int length = u2();
+                    if (annotationIndex == 0 && matches(buffer.position(), length)) annotationIndex = i;
+                    skip(length);
+                    break;
+                case 5:
+                case 6:
+                    skip(8);
+                    i++;
+                    break;
+                case 7:
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    skip(2);
+                    break;
+                case 15:
+                    skip(3);
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    skip(4);
+                    break;
+                default:
+                    throw new IndexOutOfBoundsException("Unknown constant pool tag " + tag);
+            }
+        }
+        return annotationIndex;
+    }
+
+    /**
+     * Reads a RuntimeVisibleAnnotations body and returns {uniqueId, groupName} if it holds @SyncAction.
+     */
+    private String[] readSyncAction(int annotationIndex) throws IOException {
+        String[] result = null;
+        int count = u2();
+        for (int i = 0; i < count; i++) {
+            int type = u2();
+            int pairs = u2();
+            if (type != annotationIndex) {
+                for (int p = 0; p < pairs; p++) {
+                    buffer.getShort();
+                    skipElementValue();
+                }
+                continue;
+            }
+            result = new String[]{"", DEFAULT_GROUP_NAME};
+            for (int p = 0; p < pairs; p++) {
+                String name = utf8(u2());
+                if (buffer.get(buffer.position()) == 's' && ("uniqueId".equals(name) || "groupName".equals(name))) {
+                    buffer.get();
+                    result["uniqueId".equals(name) ? 0 : 1] = utf8(u2());
+                } else {
+                    skipElementValue();
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String annotationDefault(String element) {
+        try {
+            Object value = Class.forName(SyncActionIndexProcessor.SYNC_ACTION, false, SyncActionClassReader.class.getClassLoader())
+                    .getMethod(element).getDefaultValue();
+            return value != null ? String.valueOf(value) : "";
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return "";
+        }
+    }
+
+    private void skipElementValue() {
+        int tag = buffer.get() & 0xFF;
+        switch (tag) {
+            case 'e':
+                skip(4);
+                break;
+            case '@':
+                buffer.getShort();
+                int pairs = u2();
+                for (int p = 0; p < pairs; p++) {
+                    buffer.getShort();
+                    skipElementValue();
+                }
+                break;
+            case '[':
+                int values = u2();
+                for (int v = 0; v < values; v++) {
+                    skipElementValue();
+                }
+                break;
+            default:
+                skip(2);
+        }
+    }
+
+    private void skipAttributes() {
+        int count = u2();
+        for (int i = 0; i < count; i++) {
+            buffer.getShort();
+            skip(buffer.getInt());
+        }
+    }
+
+    private int classNameIndex(int classIndex) {
+        return ((bytes[offsets[classIndex]] & 0xFF) << 8) | (bytes[offsets[classIndex] + 1] & 0xFF);
+    }
+
+    private String utf8(int index) throws IOException {
+        int offset = offsets[index];
+        int length = ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+        return new DataInputStream(new ByteArrayInputStream(bytes, offset, length + 2)).readUTF();
+    }
+
+    private boolean matches(int offset, int length) {
+        if (length != SYNC_ACTION_DESCRIPTOR.length) return false;
+        for (int i = 0; i < length; i++) {
+            if (bytes[offset + i] != SYNC_ACTION_DESCRIPTOR[i]) return false;
+        }
+        return true;
+    }
+
+    private int u2() {
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    private void skip(int count) {
+        buffer.position(buffer.position() + count);
+    }
+
+    /**
+     * Converts a method descriptor into the parameter type names used by the index.
+     */
+    static List<String> parameterTypes(String descriptor) {
+        List<String> types = new ArrayList<>();
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            int dimensions = 0;
+            while (descriptor.charAt(i) == '[') {
+                dimensions++;
+                i++;
+            }
+            String type;
+            if (descriptor.charAt(i) == 'L') {
+                int end = descriptor.indexOf(';', i);
+                type = descriptor.substring(i + 1, end).replace('/', '.');
+                i = end + 1;
+            } else {
+                type = primitive(descriptor.charAt(i));
+                i++;
+            }
+            types.add(type + "[]".repeat(dimensions));
+        }
+        return types;
+    }
+
+    private static String primitive(char code) {
+        switch (code) {
+            case 'Z': return "boolean";
+            case 'B': return "byte";
+            case 'C': return "char";
+            case 'S': return "short";
+            case 'I': return "int";
+            case 'J': return "long";
+            case 'F': return "float";
+            case 'D': return "double";
+            default: throw new IllegalArgumentException("Unknown descriptor type " + code);
+        }
+    }
+}
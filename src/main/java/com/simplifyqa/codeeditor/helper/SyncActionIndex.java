@@ -0,0 +1,136 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.codeeditor.processor.SyncActionIndexProcessor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runtime view of the build-time index written by {@link SyncActionIndexProcessor}.
+ */
+public final class SyncActionIndex {
+    private static final Logger logger = Logger.getLogger(SyncActionIndex.class.getName());
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "boolean", boolean.class, "byte", byte.class, "char", char.class, "short", short.class,
+            "int", int.class, "long", long.class, "float", float.class, "double", double.class);
+
+    public record Entry(String uniqueId, String className, String methodName, List<String> parameterTypes,
+                        String groupName, boolean isPublic) {
+
+        public boolean inPackage(String packageName) {
+            return className.startsWith(packageName + ".");
+        }
+
+        /**
+         * Loads the declaring class without running its static initializer, which only runs
+         * when the first step creates an instance.
+         */
+        public Class<?> loadClass(ClassLoader classLoader) throws ClassNotFoundException {
+            return Class.forName(className, false, classLoader);
+        }
+
+        /**
+         * Serializes the entry in the index line format.
+         */
+        public String toLine() {
+            return String.join("\t", uniqueId, className, methodName, String.join(",", parameterTypes),
+                    groupName, String.valueOf(isPublic));
+        }
+
+        public static Entry parse(String line) {
+            String[] fields = line.split("\t", -1);
+            List<String> parameterTypes = fields[3].isEmpty() ? List.of() : List.of(fields[3].split(","));
+            return new Entry(fields[0], fields[1], fields[2], parameterTypes, fields[4], Boolean.parseBoolean(fields[5]));
+        }
+
+        public Method resolve(ClassLoader classLoader) throws ClassNotFoundException, NoSuchMethodException {
+            Class<?>[] types = new Class<?>[parameterTypes.size()];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = typeFor(parameterTypes.get(i), classLoader);
+            }
+            return loadClass(classLoader).getDeclaredMethod(methodName, types);
+        }
+    }
+
+    private SyncActionIndex() {
+    }
+
+    /**
+     * Reads every index visible to the class loader, or empty if none was generated
+     * (e.g. classes compiled without the annotation processor).
+     */
+    public static Optional<List<Entry>> load(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> resources = classLoader.getResources(SyncActionIndexProcessor.INDEX_LOCATION);
+            if (!resources.hasMoreElements()) {
+                return Optional.empty();
+            }
+            List<Entry> entries = new ArrayList<>();
+            while (resources.hasMoreElements()) {
+                entries.addAll(read(resources.nextElement()));
+            }
+            return Optional.of(Collections.unmodifiableList(entries));
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read @SyncAction index: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<List<Entry>> load() {
+        return load(SyncActionIndex.class.getClassLoader());
+    }
+
+    /**
+     * Declaring classes of indexed actions under the package, loaded only on demand.
+     */
+    public static List<Class<?>> classesIn(List<Entry> entries, String packageName, ClassLoader classLoader) {
+        Set<String> classNames = new LinkedHashSet<>();
+        for (Entry entry : entries) {
+            if (entry.inPackage(packageName)) classNames.add(entry.className());
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className, true, classLoader));
+            } catch (ClassNotFoundException | NoClassDefFoundError e) {
+                logger.warning("Failed to load the indexed class: " + className + " reason: " + e.getMessage());
+            }
+        }
+        return classes;
+    }
+
+    private static List<Entry> read(URL url) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                entries.add(Entry.parse(line));
+            }
+        }
+        return entries;
+    }
+
+    static Class<?> typeFor(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        if (name.endsWith("[]")) {
+            return Array.newInstance(typeFor(name.substring(0, name.length() - 2), classLoader), 0).getClass();
+        }
+        Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, classLoader);
+    }
+}
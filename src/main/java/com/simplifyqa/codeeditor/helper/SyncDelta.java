@@ -0,0 +1,20 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.pluginbase.plugin.sync.models.ActionData;
+
+import java.util.List;
+
+/**
+ * Actions that changed since {@code baseVersion}. A null base means the receiver has no
+ * accepted state and {@code added} holds every action.
+ */
+public record SyncDelta(String baseVersion, String version, List<ActionData> added, List<ActionData> changed, List<String> removed) {
+
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    public boolean isFull() {
+        return baseVersion == null;
+    }
+}
@@ -0,0 +1,90 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.simplifyqa.pluginbase.exceptions.IncompatibleParameterTypeException;
+
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts test data strings into parameter types without using exceptions for
+ * control flow. The value's shape is sniffed from its first significant character,
+ * the same way the JSON parser would, so text that can never parse as JSON goes
+ * straight to {@link ObjectMapper#convertValue} instead of failing in readValue first.
+ */
+public class TypeCoercionEngine {
+
+    public enum Shape {
+        NUMBER, LITERAL, QUOTED, STRUCTURE, RAW
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, IValueConverter> converters = new ConcurrentHashMap<>();
+
+    public TypeCoercionEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public IValueConverter converterFor(Class<?> type) {
+        return converters.computeIfAbsent(type, t -> ValueConverters.forType(t, genericConverter(t)));
+    }
+
+    public Object coerce(String value, Class<?> type) {
+        return converterFor(type).convert(value);
+    }
+
+    /**
+     * Whether step data can ever be converted to the type: strings, primitives, enums and
+     * concrete or collection types Jackson knows how to build.
+     */
+    public boolean canCoerce(Class<?> type) {
+        if (type.isPrimitive() || type == String.class || type.isEnum()) return true;
+        if (type.isArray()) return canCoerce(type.getComponentType());
+        boolean container = Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+        if (!container && (type.isInterface() || Modifier.isAbstract(type.getModifiers()))) {
+            return Number.class.isAssignableFrom(type) || type == Object.class;
+        }
+        return objectMapper.canDeserialize(objectMapper.constructType(type));
+    }
+
+    private IValueConverter genericConverter(Class<?> type) {
+        ObjectReader reader = objectMapper.readerFor(type);
+        return value -> {
+            if (value != null && sniff(value) == Shape.RAW) {
+                return convert(value, type);
+            }
+            try {
+                return reader.readValue(value);
+            } catch (JsonProcessingException e) {
+                return convert(value, type);
+            }
+        };
+    }
+
+    private Object convert(String value, Class<?> type) {
+        try {
+            return objectMapper.convertValue(value, type);
+        } catch (Exception e) {
+            throw new IncompatibleParameterTypeException(e.getMessage());
+        }
+    }
+
+    public static Shape sniff(String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && Character.isWhitespace(value.charAt(i))) i++;
+        if (i == length) return Shape.RAW;
+        char first = value.charAt(i);
+        if (first == '-' || (first >= '0' && first <= '9')) return Shape.NUMBER;
+        if (first == '"') return Shape.QUOTED;
+        if (first == '{' || first == '[') return Shape.STRUCTURE;
+        if (value.startsWith("true", i) || value.startsWith("false", i) || value.startsWith("null", i)) {
+            return Shape.LITERAL;
+        }
+        return Shape.RAW;
+    }
+}
@@ -0,0 +1,51 @@
+package com.simplifyqa.codeeditor.helper;
+
+/**
+ * Picks the cheapest converter for a parameter type. Common scalar types are parsed
+ * directly and only fall through to the generic converter when the value is not in their plain form.
+ * Every shortcut returns what the generic readValue-then-convertValue path would, so test
+ * data {@code null} still binds to null and whitespace around JSON scalars is still dropped.
+ */
+public final class ValueConverters {
+
+    private ValueConverters() {
+    }
+
+    public static IValueConverter forType(Class<?> type, IValueConverter fallback) {
+        if (type == String.class) {
+            return value -> value != null && TypeCoercionEngine.sniff(value) == TypeCoercionEngine.Shape.RAW ? value : fallback.convert(value);
+        }
+        if (type == int.class || type == Integer.class) {
+            return value -> isPlainInteger(value, 9) ? (Object) Integer.parseInt(value.trim()) : fallback.convert(value);
+        }
+        if (type == long.class || type == Long.class) {
+            return value -> isPlainInteger(value, 18) ? (Object) Long.parseLong(value.trim()) : fallback.convert(value);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return value -> {
+                String trimmed = value == null ? null : value.trim();
+                if ("true".equals(trimmed) || "True".equals(trimmed) || "TRUE".equals(trimmed)) return Boolean.TRUE;
+                if ("false".equals(trimmed) || "False".equals(trimmed) || "FALSE".equals(trimmed)) return Boolean.FALSE;
+                return fallback.convert(value);
+            };
+        }
+        return fallback;
+    }
+
+    /**
+     * True for an optionally signed run of at most {@code maxDigits} digits, which is
+     * guaranteed to fit the target type without overflow.
+     */
+    static boolean isPlainInteger(String value, int maxDigits) {
+        if (value == null) return false;
+        String trimmed = value.trim();
+        int start = !trimmed.isEmpty() && (trimmed.charAt(0) == '-' || trimmed.charAt(0) == '+') ? 1 : 0;
+        int digits = trimmed.length() - start;
+        if (digits == 0 || digits > maxDigits) return false;
+        for (int i = start; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+}
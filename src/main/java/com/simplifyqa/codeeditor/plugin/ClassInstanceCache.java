@@ -0,0 +1,81 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import com.simplifyqa.codeeditor.helper.ActionDescriptor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Instances of custom action classes for one plugin session. In per-thread mode every
+ * executing thread gets its own instances, so the driver and current object injected into
+ * them by one step can never be seen by a step running in parallel. A step that timed out
+ * may have left its instance half-way through an action, so its instance is evicted and
+ * the next step on that thread starts from a new one.
+ */
+public class ClassInstanceCache {
+    private final boolean perThread;
+    private final Map<Class<?>, Object> sharedInstances = new ConcurrentHashMap<>();
+    private final Map<Thread, Map<Class<?>, Object>> threadInstances = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * Latest version of every class instantiated, by class name.
+     */
+    private final Map<String, Class<?>> versions = new ConcurrentHashMap<>();
+
+    public ClassInstanceCache(boolean perThread) {
+        this.perThread = perThread;
+    }
+
+    /**
+     * Instance of the action's declaring class, created through the action's instance factory.
+     * The first instance of a newer version of a class, e.g. after a reload, drops the older
+     * version's instances from every thread so they do not keep the old class loader alive.
+     */
+    public Object get(ActionDescriptor action)
+            throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        Class<?> clazz = action.getDeclaringClass();
+        Map<Class<?>, Object> instances = instances();
+        Object instance = instances.get(clazz);
+        if (instance == null) {
+            if (versions.put(clazz.getName(), clazz) != clazz) evictOtherVersions(clazz);
+            instance = action.newInstance();
+            Object existing = instances.putIfAbsent(clazz, instance);
+            if (existing != null) instance = existing;
+            // Replaced by a newer version meanwhile: serve this step, but do not keep it
+            if (versions.get(clazz.getName()) != clazz) instances.remove(clazz, instance);
+        }
+        return instance;
+    }
+
+    /**
+     * Drops the instance a step was abandoned with, unless it has been replaced already.
+     */
+    public void evict(Object instance) {
+        instances().remove(instance.getClass(), instance);
+    }
+
+    private void evictOtherVersions(Class<?> clazz) {
+        Predicate<Class<?>> older = cached -> cached != clazz && cached.getName().equals(clazz.getName());
+        sharedInstances.keySet().removeIf(older);
+        synchronized (threadInstances) {
+            for (Map<Class<?>, Object> instances : threadInstances.values()) {
+                instances.keySet().removeIf(older);
+            }
+        }
+    }
+
+    private Map<Class<?>, Object> instances() {
+        return perThread
+                ? threadInstances.computeIfAbsent(Thread.currentThread(), t -> new ConcurrentHashMap<>())
+                : sharedInstances;
+    }
+
+    public void clear() {
+        sharedInstances.clear();
+        threadInstances.clear();
+        versions.clear();
+    }
+}
@@ -1,14 +1,19 @@
 package com.simplifyqa.codeeditor.plugin;
 
+import com.simplifyqa.codeeditor.exceptions.StepTimeoutException;
+import com.simplifyqa.codeeditor.helper.ActionDescriptor;
+import com.simplifyqa.codeeditor.helper.ActionLease;
+import com.simplifyqa.codeeditor.helper.ActionSyncTracker;
 import com.simplifyqa.codeeditor.helper.CustomMethodInvoker;
 import com.simplifyqa.codeeditor.helper.ICustomMethodInvoker;
 import com.simplifyqa.codeeditor.helper.ISyncActions;
+import com.simplifyqa.codeeditor.helper.StepLog;
+import com.simplifyqa.codeeditor.helper.SyncDelta;
 import com.simplifyqa.pluginbase.codeeditor.model.CodeEditorSPI;
 import com.simplifyqa.pluginbase.codeeditor.model.PluginType;
 import com.simplifyqa.pluginbase.codeeditor.service.IAutoInjector;
 import com.simplifyqa.pluginbase.common.models.AutomationInfo;
 import com.simplifyqa.pluginbase.common.models.Configuration;
-import com.simplifyqa.pluginbase.common.models.web.networklogs.NetworkLogs;
 import com.simplifyqa.pluginbase.common.models.web.networklogs.NetworkLogsWrapper;
 import com.simplifyqa.pluginbase.plugin.drivers.QADriver;
 import com.simplifyqa.pluginbase.plugin.execution.models.pluginstep.ExecutionStep;
@@ -18,39 +23,107 @@ import com.simplifyqa.pluginbase.plugin.execution.models.response.PluginNormalSt
 import com.simplifyqa.pluginbase.plugin.execution.models.response.PluginResponseData;
 import com.simplifyqa.pluginbase.plugin.sync.models.ActionData;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.time.Duration;
+import java.nio.file.Path;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class CodeEditorPlugin implements CodeEditorSPI {
-    private QADriver driver;
-    private Configuration configuration;
+    private volatile QADriver driver;
+    private volatile Configuration configuration;
+    /**
+     * Project of the actions on this plugin's own classpath, served by the no-argument constructor.
+     */
     public static final String projectId="1";
+    private static final List<String> ACTION_PACKAGES = List.of("com.simplifyqa.codeeditor");
     private static final Logger log = Logger.getLogger(CodeEditorPlugin.class.getName());
+    private static final StepLog stepLog = StepLog.of(CodeEditorPlugin.class);
+    private static final StepMetrics metrics = new StepMetrics();
     private static final ICustomMethodInvoker methodInvoker;
-    private final Map<Class<?>, Object> classObjects;
+    private static final Map<String, ActionSyncTracker> syncTrackers = new ConcurrentHashMap<>();
+    private final String project;
+    /**
+     * When set, each executing thread gets its own custom class instances so one session
+     * can run steps in parallel: -Dcodeeditor.concurrentExecution=true
+     */
+    private static final boolean concurrentExecution = Boolean.getBoolean("codeeditor.concurrentExecution");
+    private final ClassInstanceCache classObjects;
+    private static final boolean dedupScreenshots = ScreenshotStore.isEnabled();
+    private final NetworkLogProcessor networkLogProcessor = new NetworkLogProcessor(
+            Integer.getInteger("codeeditor.networkLogs.capacity", 1000), networkLogSpill());
+    private final ScreenshotStore screenshotStore = new ScreenshotStore(Integer.getInteger("codeeditor.screenshot.dedupCapacity", 64));
 
     static {
+        StepLog.configure();
         log.info("loading all methods from Custom Plugin with project id: " + projectId);
-        methodInvoker = new CustomMethodInvoker();
-        methodInvoker.registerMethodsFromPackage(List.of("com.simplifyqa.codeeditor"));
+        methodInvoker = new CustomMethodInvoker(metrics);
+        methodInvoker.registerMethodsFromPackage(ACTION_PACKAGES);
+        String reloadPath = System.getProperty("codeeditor.reload.path");
+        if (reloadPath != null) {
+            try {
+                watchProject(projectId, Path.of(reloadPath));
+            } catch (IOException e) {
+                log.log(Level.SEVERE, "Hot reload disabled, could not watch " + reloadPath + ": " + e.getMessage());
+            }
+        }
     }
 
     public CodeEditorPlugin() {
-        classObjects = new HashMap<>();
+        this(projectId);
+    }
+
+    /**
+     * Session for a project loaded with {@link #loadProject(String, List)}.
+     */
+    public CodeEditorPlugin(String projectId) {
+        this.project = projectId;
+        classObjects = new ClassInstanceCache(concurrentExecution);
+        networkLogProcessor.setFilter(NetworkLogFilter.fromSystemProperties());
+    }
+
+    /**
+     * Loads a project's jars or class directories into their own class loader and registers its
+     * actions under the project id, replacing a previously loaded version of the project.
+     */
+    public static void loadProject(String projectId, List<Path> classpath) {
+        methodInvoker.registerProject(projectId, classpath, ACTION_PACKAGES);
+    }
+
+    /**
+     * Drops the project's actions and releases its class loader. Close the project's sessions first.
+     */
+    public static boolean unloadProject(String projectId) {
+        syncTrackers.remove(projectId);
+        return methodInvoker.unloadProject(projectId);
+    }
+
+    /**
+     * Reloads the project whenever its jar or classes directory changes, without restarting
+     * the agent. -Dcodeeditor.reload.path does this for this plugin's own project at startup;
+     * -Dcodeeditor.reload.debounce (ms, default 300) sets how long changes must be quiet.
+     * Close the returned reloader to stop watching.
+     */
+    public static ProjectReloader watchProject(String projectId, Path source) throws IOException {
+        return new ProjectReloader(projectId, source, ACTION_PACKAGES, methodInvoker,
+                Long.getLong("codeeditor.reload.debounce", 300)).start();
+    }
+
+    public static Set<String> getLoadedProjects() {
+        return methodInvoker.getProjectIds();
     }
 
     @Override
     public void close() {
         classObjects.clear();
+        screenshotStore.clear();
+        networkLogProcessor.reset();
         this.driver = null;
     }
 
@@ -61,7 +134,7 @@ public class CodeEditorPlugin implements CodeEditorSPI {
 
     @Override
     public String getProjectId() {
-        return projectId;
+        return project;
     }
 
     @Override
@@ -80,22 +153,32 @@ public class CodeEditorPlugin implements CodeEditorSPI {
     }
 
     public <T extends ExecutionStep> ExecutionResponse execute(T step) {
-        log.info("step received by code editor execution plugin ");
+        stepLog.step("step received by code editor execution plugin ");
         ExecutionResponse response = new ExecutionResponse();
         PluginNormalStep actualStep = null;
-        Method method = null;
+        String uniqueId = null;
         Instant startTime = Instant.now();
+        long stepStart = metrics.start();
         try {
             actualStep = (PluginNormalStep) step;
-            log.info("Method's Unique Id from Action: " + actualStep.action().uniqueId());
-            method = methodInvoker.getMethod(actualStep.action().uniqueId(), getProjectId());
-            boolean stepStatus = findAndTriggerMethod(method, actualStep);
-            response.setStepStatus(stepStatus);
-            log.info("Plugin step completed");
+            uniqueId = actualStep.action().uniqueId();
+            stepLog.step("Method''s Unique Id from Action: {0}", uniqueId);
+            long lookupStart = metrics.start();
+            try (ActionLease lease = methodInvoker.leaseAction(uniqueId, getProjectId())) {
+                metrics.stop(uniqueId, StepPhase.LOOKUP, lookupStart);
+                boolean stepStatus = findAndTriggerMethod(lease.getAction(), actualStep);
+                response.setStepStatus(stepStatus);
+            }
+            stepLog.step("Plugin step completed");
         } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
             log.info("Method could not triggered : " + e.getMessage());
             response.setStepStatus(false);
             response.setInformativeException(e);
+        } catch (StepTimeoutException e) {
+            log.info("Step timed out : " + e.getMessage());
+            metrics.timeout(uniqueId);
+            response.setStepStatus(false);
+            response.setInformativeException(e);
         } catch (NoSuchMethodException e) {
             log.info("Method not found.");
             response.setStepStatus(false);
@@ -108,7 +191,7 @@ public class CodeEditorPlugin implements CodeEditorSPI {
 
         PluginNormalStepResponseData pluginNormalStepResponseData = new PluginNormalStepResponseData();
         try {
-            checkAndAddScreenshotAndNetworkLogs(pluginNormalStepResponseData, startTime, response.isStepStatus(), actualStep != null && actualStep.takeScreenShot());
+            checkAndAddScreenshotAndNetworkLogs(pluginNormalStepResponseData, uniqueId, startTime, response.isStepStatus(), actualStep != null && actualStep.takeScreenShot());
         } catch (Exception e) {
             response.setStepStatus(false);
             if (response.getInformativeException() == null)
@@ -118,48 +201,99 @@ public class CodeEditorPlugin implements CodeEditorSPI {
                 .pluginNormalStepResponseData(pluginNormalStepResponseData)
                 .build();
         response.setPluginResponseData(pluginResponseData);
+        if (!response.isStepStatus()) metrics.failure(uniqueId);
+        metrics.stop(uniqueId, StepPhase.TOTAL, stepStart);
         return response;
     }
 
-    protected boolean findAndTriggerMethod(Method method, PluginNormalStep step)
+    protected boolean findAndTriggerMethod(ActionDescriptor action, PluginNormalStep step)
             throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        if (!classObjects.containsKey(method.getDeclaringClass())) {
-            Object newInstance = method.getDeclaringClass().getConstructor().newInstance();
-            classObjects.put(method.getDeclaringClass(), newInstance);
+        long injectionStart = metrics.start();
+        Object classObject = classObjects.get(action);
+        IAutoInjector.autoInjectDriver(classObject, driver);
+        IAutoInjector.autoInjectCurrentObject(classObject, step.sqaObject());
+        metrics.stop(action.getMethodId(), StepPhase.INJECTION, injectionStart);
+        try {
+            return (boolean) methodInvoker.invokeAction(action, classObject, step.parameters(), configuration);
+        } catch (StepTimeoutException e) {
+            classObjects.evict(classObject);
+            throw e;
         }
-        IAutoInjector.autoInjectDriver(classObjects.get(method.getDeclaringClass()),driver);
-        IAutoInjector.autoInjectCurrentObject(classObjects.get(method.getDeclaringClass()),step.sqaObject());
-        return (boolean) methodInvoker.invokeMethod(step.action().uniqueId(), getProjectId(), classObjects.get(method.getDeclaringClass()), step.parameters(), configuration);
     }
 
-    private void checkAndAddScreenshotAndNetworkLogs(PluginNormalStepResponseData pluginNormalStepResponseData, Instant startTime, boolean stepStatus, boolean takeScreenshot) {
-        NetworkLogsWrapper networkLogsWrapper = driver.getNetworkLogsWrapper();
+    /**
+     * Adds the step's network logs and, on failure or when asked for, its screenshot. The
+     * capture stays on the step's thread: the driver is confined to it, and the response has
+     * to carry the screenshot when execute returns.
+     */
+    private void checkAndAddScreenshotAndNetworkLogs(PluginNormalStepResponseData pluginNormalStepResponseData, String uniqueId, Instant startTime, boolean stepStatus, boolean takeScreenshot) {
+        QADriver qaDriver = driver;
+        NetworkLogsWrapper networkLogsWrapper = qaDriver.getNetworkLogsWrapper();
         if (networkLogsWrapper != null) {
-            pluginNormalStepResponseData.setNetworkLogsWrapper(setResponseTimeAndGetNetworkLogs(startTime, networkLogsWrapper));
+            long networkLogsStart = metrics.start();
+            pluginNormalStepResponseData.setNetworkLogsWrapper(networkLogProcessor.process(startTime.toEpochMilli(), networkLogsWrapper));
+            metrics.stop(uniqueId, StepPhase.NETWORK_LOGS, networkLogsStart);
         }
         if (!stepStatus || takeScreenshot) {
-            String base64Screenshot = driver.captureScreenshot();
-            pluginNormalStepResponseData.setScreenShot(base64Screenshot);
+            long screenshotStart = metrics.start();
+            pluginNormalStepResponseData.setScreenShot(captureScreenshot(qaDriver));
+            metrics.stop(uniqueId, StepPhase.SCREENSHOT, screenshotStart);
         }
     }
 
-    private NetworkLogsWrapper setResponseTimeAndGetNetworkLogs(Instant startTime, NetworkLogsWrapper wrapper) {
-        List<NetworkLogs> networkLogs = wrapper.getNetworkLogs();
-        if (networkLogs.isEmpty()) return wrapper;
-        networkLogs.forEach(l -> {
-            if (l == null || l.getParams() == null) return;
-            long epochTime = l.getParams().getTimestamp();
-            long timestamp = Duration.between(startTime, Instant.ofEpochMilli(l.getParams().getTimestamp())).toMillis();
-            l.getParams().setTimestamp(timestamp > 0 ? timestamp : 0);
-            l.getParams().setLocalDateTimeStamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochTime), ZoneId.systemDefault()).toString());
-        });
-        return wrapper;
+    /**
+     * Step timings and failure/timeout counters of every plugin instance in this JVM.
+     */
+    public static StepMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Network logs evicted from memory go to -Dcodeeditor.networkLogs.spillDir (default the
+     * temp directory); -Dcodeeditor.networkLogs.spill=false drops them instead.
+     */
+    private static NetworkLogSpill networkLogSpill() {
+        if (!Boolean.parseBoolean(System.getProperty("codeeditor.networkLogs.spill", "true"))) return null;
+        Path dir = Path.of(System.getProperty("codeeditor.networkLogs.spillDir", System.getProperty("java.io.tmpdir")));
+        return new NetworkLogSpill(dir.resolve("codeeditor-network-logs-" + UUID.randomUUID() + ".jsonl"));
+    }
+
+    private String captureScreenshot(QADriver qaDriver) {
+        String base64Screenshot = qaDriver.captureScreenshot();
+        return dedupScreenshots ? screenshotStore.dedupe(base64Screenshot) : base64Screenshot;
+    }
+
+    /**
+     * Actions added, changed or removed since {@code baseVersion}, the version last passed to
+     * {@link #acknowledgeSync(String)}. Unknown or null versions yield every action.
+     */
+    public SyncDelta syncDelta(String baseVersion) {
+        return syncTracker().diff(baseVersion, ISyncActions.getSyncedActions(ACTION_PACKAGES, projectClassLoader(), project));
+    }
+
+    /**
+     * Marks a delta as applied by the receiver, making its version the next base.
+     */
+    public boolean acknowledgeSync(String version) {
+        return syncTracker().accept(version);
+    }
+
+    private ActionSyncTracker syncTracker() {
+        return syncTrackers.computeIfAbsent(project, id -> new ActionSyncTracker());
+    }
+
+    private ClassLoader projectClassLoader() {
+        ClassLoader classLoader = methodInvoker.getProjectClassLoader(project);
+        if (classLoader == null) {
+            throw new IllegalStateException("Project " + project + " is not loaded");
+        }
+        return classLoader;
     }
 
     @Override
     public List<ActionData> sync() {
         try {
-            return ISyncActions.getActionList(List.of("com.simplifyqa.codeeditor"));
+            return ISyncActions.getActionList(ACTION_PACKAGES, projectClassLoader(), project);
         } catch (Exception e) {
             log.log(Level.SEVERE, "Failed to sync custom plugin actions: " + e.getMessage());
             return null;
@@ -0,0 +1,76 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram: every power of two is split
+ * into 16 linear sub-buckets, giving about 6% relative precision over the full long range
+ * with a fixed 960-slot array. Recording is lock- and allocation-free.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public record Snapshot(long count, long mean, long p50, long p90, long p99, long max) {
+    }
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // retry until max holds the largest value
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        if (total == 0) return new Snapshot(0, 0, 0, 0, 0, 0);
+        long highest = max.get();
+        return new Snapshot(total, sum.get() / total,
+                percentile(copy, total, 0.50, highest),
+                percentile(copy, total, 0.90, highest),
+                percentile(copy, total, 0.99, highest),
+                highest);
+    }
+
+    private static long percentile(long[] counts, long total, double percentile, long highest) {
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(i + 1 < BUCKETS ? lowerBound(i + 1) - 1 : Long.MAX_VALUE, highest);
+            }
+        }
+        return highest;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa - SUB_BUCKETS;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int group = index / SUB_BUCKETS;
+        long mantissa = index % SUB_BUCKETS + SUB_BUCKETS;
+        return mantissa << (group - 1);
+    }
+}
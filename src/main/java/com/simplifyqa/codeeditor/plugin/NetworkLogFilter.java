@@ -0,0 +1,97 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplifyqa.pluginbase.common.models.web.networklogs.NetworkLogs;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the network logs a session wants to report, configured with:
+ * <ul>
+ *     <li>-Dcodeeditor.networkLogs.urlPattern=&lt;regex&gt;: entries whose URL contains a match</li>
+ *     <li>-Dcodeeditor.networkLogs.resourceTypes=XHR,Fetch: entries of these resource types</li>
+ *     <li>-Dcodeeditor.networkLogs.sampleRate=&lt;0..1&gt;: that share of the entries left</li>
+ * </ul>
+ * The URL and resource type are the first {@code url} and {@code type} fields of the entry's
+ * JSON form, where the DevTools events the driver records carry them.
+ */
+public class NetworkLogFilter implements Predicate<NetworkLogs> {
+    private static final Logger logger = Logger.getLogger(NetworkLogFilter.class.getName());
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private final Pattern urlPattern;
+    private final Set<String> resourceTypes;
+    private final double sampleRate;
+    private final AtomicLong seen = new AtomicLong();
+
+    public NetworkLogFilter(Pattern urlPattern, Set<String> resourceTypes, double sampleRate) {
+        this.urlPattern = urlPattern;
+        this.resourceTypes = resourceTypes == null ? Set.of() : resourceTypes.stream()
+                .map(type -> type.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+    }
+
+    /**
+     * The filter the system properties describe, or null when none of them is set.
+     */
+    public static NetworkLogFilter fromSystemProperties() {
+        String urlPattern = System.getProperty("codeeditor.networkLogs.urlPattern");
+        String resourceTypes = System.getProperty("codeeditor.networkLogs.resourceTypes");
+        String sampleRate = System.getProperty("codeeditor.networkLogs.sampleRate");
+        if (urlPattern == null && resourceTypes == null && sampleRate == null) return null;
+        Pattern pattern = null;
+        try {
+            if (urlPattern != null) pattern = Pattern.compile(urlPattern);
+        } catch (PatternSyntaxException e) {
+            logger.log(Level.SEVERE, "Ignoring invalid network log URL pattern: " + e.getMessage());
+        }
+        Set<String> types = resourceTypes == null ? Set.of() : Arrays.stream(resourceTypes.split(","))
+                .map(String::trim)
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toSet());
+        double rate = 1;
+        try {
+            if (sampleRate != null) rate = Double.parseDouble(sampleRate);
+        } catch (NumberFormatException e) {
+            logger.log(Level.SEVERE, "Ignoring invalid network log sample rate: " + sampleRate);
+        }
+        return new NetworkLogFilter(pattern, types, rate);
+    }
+
+    @Override
+    public boolean test(NetworkLogs networkLogs) {
+        JsonNode entry = urlPattern != null || !resourceTypes.isEmpty() ? mapper.valueToTree(networkLogs) : null;
+        return test(entry);
+    }
+
+    boolean test(JsonNode entry) {
+        if (urlPattern != null) {
+            JsonNode url = entry.findValue("url");
+            if (url == null || !urlPattern.matcher(url.asText()).find()) return false;
+        }
+        if (!resourceTypes.isEmpty()) {
+            JsonNode type = entry.findValue("type");
+            if (type == null || !resourceTypes.contains(type.asText().toLowerCase(Locale.ROOT))) return false;
+        }
+        return sample();
+    }
+
+    /**
+     * Keeps {@code sampleRate} of the entries, spread evenly over the session.
+     */
+    private boolean sample() {
+        if (sampleRate >= 1) return true;
+        long n = seen.getAndIncrement();
+        return (long) ((n + 1) * sampleRate) > (long) (n * sampleRate);
+    }
+}
@@ -0,0 +1,121 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import com.simplifyqa.pluginbase.common.models.web.networklogs.NetworkLogs;
+import com.simplifyqa.pluginbase.common.models.web.networklogs.NetworkLogsWrapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Normalizes the network logs of one session incrementally. Every entry has its timestamp
+ * made step-relative exactly once, by the step during which it first shows up, and an
+ * optional filter drops unwanted entries as they are processed.
+ * <p>
+ * The driver keeps appending to the same list for the whole session, so processed entries
+ * are drained out of it: the session holds only what arrived since the previous step, and
+ * each step gets a new wrapper with at most {@code capacity} of those entries. Older entries
+ * of a step that produced more are moved to the {@link NetworkLogSpill}, where
+ * {@link NetworkLogSpill#read()} returns them. A list the driver does not let us modify is
+ * read through a cursor instead and stays as large as the driver makes it.
+ */
+public class NetworkLogProcessor {
+    private final ZoneRules zoneRules = ZoneId.systemDefault().getRules();
+    private final ZoneOffset fixedOffset = zoneRules.isFixedOffset() ? zoneRules.getOffset(Instant.EPOCH) : null;
+    private final int capacity;
+    private final NetworkLogSpill spill;
+    private volatile Predicate<NetworkLogs> filter;
+    private List<NetworkLogs> sessionList;
+    private int cursor;
+
+    public NetworkLogProcessor(int capacity, NetworkLogSpill spill) {
+        this.capacity = capacity;
+        this.spill = spill;
+    }
+
+    /**
+     * Entries the filter rejects are dropped; null keeps all. Sessions use the
+     * {@link NetworkLogFilter} configured by system properties.
+     */
+    public void setFilter(Predicate<NetworkLogs> filter) {
+        this.filter = filter;
+    }
+
+    public synchronized NetworkLogsWrapper process(long stepStartMillis, NetworkLogsWrapper wrapper) {
+        List<NetworkLogs> networkLogs = wrapper.getNetworkLogs();
+        if (networkLogs == null) return wrapper;
+        if (networkLogs != sessionList || networkLogs.size() < cursor) {
+            sessionList = networkLogs;
+            cursor = 0;
+        }
+        Predicate<NetworkLogs> keep = filter;
+        List<NetworkLogs> window;
+        synchronized (networkLogs) {
+            int end = networkLogs.size();
+            window = new ArrayList<>(end - cursor);
+            for (int i = cursor; i < end; i++) {
+                NetworkLogs l = networkLogs.get(i);
+                if (keep != null && l != null && !keep.test(l)) continue;
+                if (l != null && l.getParams() != null) {
+                    long epochTime = l.getParams().getTimestamp();
+                    long timestamp = epochTime - stepStartMillis;
+                    l.getParams().setTimestamp(timestamp > 0 ? timestamp : 0);
+                    l.getParams().setLocalDateTimeStamp(localDateTime(epochTime));
+                }
+                window.add(l);
+            }
+            cursor = drain(networkLogs, end);
+        }
+        if (window.size() > capacity) {
+            List<NetworkLogs> overflow = window.subList(0, window.size() - capacity);
+            if (spill != null) spill.append(overflow);
+            overflow.clear();
+        }
+        NetworkLogsWrapper stepLogs = new NetworkLogsWrapper();
+        stepLogs.setNetworkLogs(window);
+        return stepLogs;
+    }
+
+    /**
+     * Entries moved out of step windows since the session started, oldest first; empty
+     * without a spill.
+     */
+    public List<NetworkLogs> spilled() throws IOException {
+        return spill != null ? spill.read() : new ArrayList<>();
+    }
+
+    /**
+     * Removes the first {@code end} entries from the driver's list and returns the new cursor,
+     * or keeps them and returns {@code end} if the list cannot be modified.
+     */
+    private static int drain(List<NetworkLogs> networkLogs, int end) {
+        try {
+            networkLogs.subList(0, end).clear();
+            return 0;
+        } catch (UnsupportedOperationException e) {
+            return end;
+        }
+    }
+
+    /**
+     * Forgets the session and deletes its spill file.
+     */
+    public synchronized void reset() {
+        sessionList = null;
+        cursor = 0;
+        if (spill != null) spill.close();
+    }
+
+    private String localDateTime(long epochMillis) {
+        ZoneOffset offset = fixedOffset != null ? fixedOffset : zoneRules.getOffset(Instant.ofEpochMilli(epochMillis));
+        long seconds = Math.floorDiv(epochMillis, 1000L);
+        int nanos = (int) Math.floorMod(epochMillis, 1000L) * 1_000_000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, offset).toString();
+    }
+}
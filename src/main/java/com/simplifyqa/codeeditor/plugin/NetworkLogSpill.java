@@ -0,0 +1,92 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.simplifyqa.pluginbase.common.models.web.networklogs.NetworkLogs;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JSON-lines file receiving the network logs evicted from memory, so they can be read back
+ * with {@link #read()} instead of being kept on the heap. The file is created on the first
+ * spill and deleted on close; failures are logged and the entries dropped, a full disk must
+ * not fail steps.
+ */
+public class NetworkLogSpill implements Closeable {
+    private static final Logger logger = Logger.getLogger(NetworkLogSpill.class.getName());
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectWriter writer = mapper.writer();
+    private static final ObjectReader reader = mapper.readerFor(NetworkLogs.class);
+    private final Path file;
+    private BufferedWriter out;
+
+    public NetworkLogSpill(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public synchronized void append(List<NetworkLogs> networkLogs) {
+        if (networkLogs.isEmpty()) return;
+        try {
+            if (out == null) {
+                out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            for (NetworkLogs l : networkLogs) {
+                if (l == null) continue;
+                out.write(writer.writeValueAsString(l));
+                out.newLine();
+            }
+            out.flush();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, String.format("Dropping %s network logs, spill to %s failed: %s", networkLogs.size(), file, e.getMessage()));
+        }
+    }
+
+    /**
+     * Every entry spilled since the file was created, oldest first.
+     */
+    public synchronized List<NetworkLogs> read() throws IOException {
+        List<NetworkLogs> networkLogs = new ArrayList<>();
+        if (!Files.exists(file)) return networkLogs;
+        if (out != null) out.flush();
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isBlank()) networkLogs.add(reader.readValue(line));
+            }
+        }
+        return networkLogs;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, String.format("Failed to close network log spill %s: %s", file, e.getMessage()));
+            }
+            out = null;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, String.format("Failed to delete network log spill %s: %s", file, e.getMessage()));
+        }
+    }
+}
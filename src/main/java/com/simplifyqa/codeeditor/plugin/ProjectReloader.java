@@ -0,0 +1,187 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import com.simplifyqa.codeeditor.helper.ICustomMethodInvoker;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Hot reload of one project's custom actions: watches its jar (e.g. the jar-with-dependencies
+ * built by macBuild.sh or fetched from a release tag) or classes directory and, once changes
+ * have been quiet for the debounce interval, registers the new version in a fresh class loader.
+ * <p>
+ * Every version is loaded from a private snapshot of the jar or directory, so rebuilding in
+ * place never changes the classes a running step is still loading from. The snapshot is
+ * deleted when its version is unloaded. A jar that cannot be opened, typically one still
+ * being written, is skipped until the next change.
+ */
+public class ProjectReloader implements Closeable {
+    private static final Logger log = Logger.getLogger(ProjectReloader.class.getName());
+
+    private final String projectId;
+    private final Path source;
+    private final List<String> packageName;
+    private final ICustomMethodInvoker methodInvoker;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watched = new HashMap<>();
+    private final Thread thread;
+
+    public ProjectReloader(String projectId, Path source, List<String> packageName, ICustomMethodInvoker methodInvoker,
+                           long debounceMillis) throws IOException {
+        this.projectId = projectId;
+        this.source = source.toAbsolutePath().normalize();
+        this.packageName = packageName;
+        this.methodInvoker = methodInvoker;
+        this.debounceMillis = debounceMillis;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        if (Files.isDirectory(this.source)) {
+            registerTree(this.source);
+        } else {
+            register(this.source.getParent());
+        }
+        this.thread = new Thread(this::run, "codeeditor-reload-" + projectId);
+        this.thread.setDaemon(true);
+    }
+
+    public ProjectReloader start() {
+        thread.start();
+        log.info(String.format("Watching %s for new versions of project %s", source, projectId));
+        return this;
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (awaitChanges()) reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Blocks for the first change, then keeps collecting until none arrive within the
+     * debounce interval. True when the watched jar or directory was affected.
+     */
+    private boolean awaitChanges() throws InterruptedException {
+        boolean affected = false;
+        WatchKey key = watchService.take();
+        while (key != null) {
+            affected |= collect(key);
+            key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+        }
+        return affected;
+    }
+
+    private boolean collect(WatchKey key) {
+        Path dir = watched.get(key);
+        boolean affected = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (dir == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                affected = true;
+                continue;
+            }
+            Path changed = dir.resolve((Path) event.context());
+            if (changed.startsWith(source)) {
+                affected = true;
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+                    try {
+                        registerTree(changed);
+                    } catch (IOException e) {
+                        log.log(Level.WARNING, "Could not watch " + changed + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+        if (!key.reset()) watched.remove(key);
+        return affected;
+    }
+
+    /**
+     * Loads a snapshot of the current jar or directory as the project's new version. The
+     * previous version stays active if the snapshot cannot be taken or registered.
+     */
+    void reload() {
+        if (!Files.exists(source)) return;
+        Path snapshot = null;
+        try {
+            snapshot = snapshot();
+            Path loaded = snapshot;
+            methodInvoker.registerProject(projectId, List.of(snapshot), packageName, () -> delete(loaded));
+            log.info(String.format("Reloaded project %s from %s", projectId, source));
+        } catch (Exception e) {
+            log.log(Level.WARNING, String.format("Project %s was not reloaded, keeping the running version: %s", projectId, e.getMessage()));
+            if (snapshot != null) delete(snapshot);
+        }
+    }
+
+    private Path snapshot() throws IOException {
+        if (Files.isDirectory(source)) {
+            Path copy = Files.createTempDirectory("codeeditor-" + projectId + "-");
+            try (Stream<Path> tree = Files.walk(source)) {
+                for (Path path : (Iterable<Path>) tree::iterator) {
+                    Path target = copy.resolve(source.relativize(path).toString());
+                    if (Files.isDirectory(path)) Files.createDirectories(target);
+                    else Files.copy(path, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            return copy;
+        }
+        Path copy = Files.createTempFile("codeeditor-" + projectId + "-", ".jar");
+        Files.copy(source, copy, StandardCopyOption.REPLACE_EXISTING);
+        try (JarFile ignored = new JarFile(copy.toFile())) {
+            return copy;
+        } catch (IOException e) {
+            delete(copy);
+            throw new IOException("Unreadable jar " + source + ", waiting for the next change: " + e.getMessage(), e);
+        }
+    }
+
+    private void registerTree(Path dir) throws IOException {
+        register(dir);
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir, Files::isDirectory)) {
+            for (Path child : children) registerTree(child);
+        }
+    }
+
+    private void register(Path dir) throws IOException {
+        watched.put(dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), dir);
+    }
+
+    private static void delete(Path path) {
+        try (Stream<Path> tree = Files.walk(path)) {
+            for (Path each : (Iterable<Path>) tree.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(each);
+            }
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Could not delete snapshot " + path + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+    }
+}
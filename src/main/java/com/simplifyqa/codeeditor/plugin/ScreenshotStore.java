@@ -0,0 +1,64 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the screenshots already sent in a session by content hash. A screenshot
+ * identical to one of the last {@code capacity} is replaced by {@value #REFERENCE_PREFIX}
+ * followed by its SHA-256, so long runs with a screenshot on every step stop shipping the
+ * same image repeatedly. Off unless enabled with -Dcodeeditor.screenshot.dedup=true.
+ */
+public class ScreenshotStore {
+    public static final String REFERENCE_PREFIX = "screenshot-ref:";
+    private final Map<String, Boolean> sent;
+
+    public ScreenshotStore(int capacity) {
+        sent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Whether sessions dedupe their screenshots, read from -Dcodeeditor.screenshot.dedup.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("codeeditor.screenshot.dedup");
+    }
+
+    /**
+     * The screenshot to attach: the image itself the first time, a reference afterwards.
+     */
+    public String dedupe(String base64Screenshot) {
+        if (base64Screenshot == null || base64Screenshot.isEmpty()) return base64Screenshot;
+        String hash = hash(base64Screenshot);
+        synchronized (sent) {
+            if (sent.put(hash, Boolean.TRUE) != null) {
+                return REFERENCE_PREFIX + hash;
+            }
+        }
+        return base64Screenshot;
+    }
+
+    public void clear() {
+        synchronized (sent) {
+            sent.clear();
+        }
+    }
+
+    static String hash(String base64Screenshot) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(base64Screenshot.getBytes(StandardCharsets.ISO_8859_1)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
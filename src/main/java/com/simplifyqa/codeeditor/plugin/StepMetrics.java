@@ -0,0 +1,112 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-action step timings and counters. Phases are measured with {@link System#nanoTime()}
+ * by the plugin and the method invoker and recorded into one {@link LatencyHistogram} per
+ * phase and uniqueId, allocated on the phase's first record; after that, recording does not
+ * allocate. At most -Dcodeeditor.metrics.maxActions uniqueIds (default
+ * {@value #DEFAULT_MAX_ACTIONS}) are tracked individually, later ones are pooled under
+ * {@value #OTHER_ACTIONS}. Disabled with -Dcodeeditor.metrics=false.
+ */
+public class StepMetrics {
+    public static final String OTHER_ACTIONS = "(other)";
+    static final int DEFAULT_MAX_ACTIONS = 512;
+    private static final StepPhase[] PHASES = StepPhase.values();
+    private final boolean enabled;
+    private final int maxActions;
+    private final Map<String, ActionMetrics> actions = new ConcurrentHashMap<>();
+
+    public record ActionSnapshot(long steps, long failures, long timeouts, Map<StepPhase, LatencyHistogram.Snapshot> phases) {
+    }
+
+    public StepMetrics() {
+        this(Boolean.parseBoolean(System.getProperty("codeeditor.metrics", "true")),
+                Integer.getInteger("codeeditor.metrics.maxActions", DEFAULT_MAX_ACTIONS));
+    }
+
+    public StepMetrics(boolean enabled) {
+        this(enabled, DEFAULT_MAX_ACTIONS);
+    }
+
+    public StepMetrics(boolean enabled, int maxActions) {
+        this.enabled = enabled;
+        this.maxActions = maxActions;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, as returned by {@link #start()}.
+     */
+    public void stop(String uniqueId, StepPhase phase, long startNanos) {
+        if (!enabled || uniqueId == null) return;
+        ActionMetrics action = action(uniqueId);
+        action.histogram(phase).record(System.nanoTime() - startNanos);
+        if (phase == StepPhase.TOTAL) action.steps.increment();
+    }
+
+    public void failure(String uniqueId) {
+        if (enabled && uniqueId != null) action(uniqueId).failures.increment();
+    }
+
+    public void timeout(String uniqueId) {
+        if (enabled && uniqueId != null) action(uniqueId).timeouts.increment();
+    }
+
+    public Map<String, ActionSnapshot> snapshot() {
+        Map<String, ActionSnapshot> snapshot = new TreeMap<>();
+        actions.forEach((uniqueId, action) -> snapshot.put(uniqueId, action.snapshot()));
+        return snapshot;
+    }
+
+    public void reset() {
+        actions.clear();
+    }
+
+    private ActionMetrics action(String uniqueId) {
+        ActionMetrics action = actions.get(uniqueId);
+        if (action != null) return action;
+        String key = actions.size() < maxActions ? uniqueId : OTHER_ACTIONS;
+        return actions.computeIfAbsent(key, id -> new ActionMetrics());
+    }
+
+    private static class ActionMetrics {
+        private final AtomicReferenceArray<LatencyHistogram> phases = new AtomicReferenceArray<>(PHASES.length);
+        private final LongAdder steps = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        LatencyHistogram histogram(StepPhase phase) {
+            LatencyHistogram histogram = phases.get(phase.ordinal());
+            if (histogram == null) {
+                phases.compareAndSet(phase.ordinal(), null, new LatencyHistogram());
+                histogram = phases.get(phase.ordinal());
+            }
+            return histogram;
+        }
+
+        ActionSnapshot snapshot() {
+            Map<StepPhase, LatencyHistogram.Snapshot> phaseSnapshots = new EnumMap<>(StepPhase.class);
+            for (StepPhase phase : PHASES) {
+                LatencyHistogram histogram = phases.get(phase.ordinal());
+                if (histogram == null) continue;
+                LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+                if (snapshot.count() > 0) phaseSnapshots.put(phase, snapshot);
+            }
+            return new ActionSnapshot(steps.sum(), failures.sum(), timeouts.sum(), phaseSnapshots);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.simplifyqa.codeeditor.plugin;
+
+/**
+ * Timed phases of a plugin step, see {@link StepMetrics}.
+ */
+public enum StepPhase {
+    LOOKUP,
+    INJECTION,
+    BINDING,
+    INVOCATION,
+    NETWORK_LOGS,
+    SCREENSHOT,
+    TOTAL
+}
@@ -0,0 +1,226 @@
+package com.simplifyqa.codeeditor.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Writes every @SyncAction method found during compilation to {@link #INDEX_LOCATION},
+ * so the plugin can locate its actions at runtime without scanning the classpath.
+ * <p>
+ * The processor runs for every compilation that can see the annotation, with or without
+ * @SyncAction methods, so an incremental build that removes a class's last action still
+ * rewrites the index without it. It claims no annotation and is not registered as a
+ * service, so compilations against the plugin jar never pick it up; the build names it
+ * explicitly for the main sources only.
+ * <p>
+ * One tab separated line per method: uniqueId, declaring class (binary name), method name,
+ * comma separated parameter types, group name and whether the method is public.
+ * <p>
+ * The processor also fails the compilation, at the offending method, for a non-public
+ * @SyncAction method or a uniqueId used twice. When only some sources are recompiled, the
+ * entries of the other classes are carried over from the previous index, so uniqueness is
+ * still checked against the whole project while only the changed units are examined.
+ */
+@SupportedAnnotationTypes("*")
+public class SyncActionIndexProcessor extends AbstractProcessor {
+    public static final String SYNC_ACTION = "com.simplifyqa.pluginbase.codeeditor.annotations.SyncAction";
+    public static final String INDEX_LOCATION = "META-INF/codeeditor/sync-actions.idx";
+
+    private final List<String> lines = new ArrayList<>();
+    private final Map<String, String> owners = new HashMap<>();
+    private final Map<String, Element> declarations = new HashMap<>();
+    private final Set<String> compiledClasses = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(SYNC_ACTION);
+        if (annotation == null) return false;
+        for (Element root : roundEnv.getRootElements()) {
+            if (root instanceof TypeElement type) {
+                compiledClasses.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            }
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() == ElementKind.METHOD) {
+                ExecutableElement method = (ExecutableElement) element;
+                validate(method, annotation);
+                lines.add(toLine(method, annotation));
+            }
+        }
+        if (roundEnv.processingOver()) {
+            carryOverPreviousIndex();
+            writeIndex();
+        }
+        return false;
+    }
+
+    /**
+     * The errors this processor reports, for index lines of a build that did not run it,
+     * such as watch mode: one message per non-public method and per reused uniqueId.
+     */
+    public static List<String> check(List<String> indexLines) {
+        List<String> problems = new ArrayList<>();
+        Map<String, String> owners = new HashMap<>();
+        for (String line : indexLines) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length < 6) continue;
+            String owner = fields[1] + "." + fields[2];
+            if (!Boolean.parseBoolean(fields[5])) problems.add(notPublic(owner));
+            String previous = owners.putIfAbsent(fields[0], owner);
+            if (previous != null) problems.add(duplicate(fields[0], previous));
+        }
+        return problems;
+    }
+
+    private static String notPublic(String owner) {
+        return "@SyncAction method " + owner + " must be public";
+    }
+
+    private static String duplicate(String uniqueId, String previousOwner) {
+        return "Duplicate @SyncAction uniqueId " + uniqueId + ", already used by " + previousOwner;
+    }
+
+    private void validate(ExecutableElement method, TypeElement annotation) {
+        String name = owner(method);
+        if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, notPublic(name), method);
+        }
+        String uniqueId = annotationValue(method, annotation, "uniqueId");
+        declarations.putIfAbsent(uniqueId, method);
+        String previous = owners.putIfAbsent(uniqueId, name);
+        if (previous != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, duplicate(uniqueId, previous), method);
+        }
+    }
+
+    private String owner(ExecutableElement method) {
+        TypeElement declaringClass = (TypeElement) method.getEnclosingElement();
+        return processingEnv.getElementUtils().getBinaryName(declaringClass) + "." + method.getSimpleName();
+    }
+
+    /**
+     * Keeps the previous index lines of classes that were not recompiled and still exist.
+     * A uniqueId taken by such a class and by a recompiled method is reported as well.
+     */
+    private void carryOverPreviousIndex() {
+        List<String> previous;
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            previous = index.getCharContent(false).toString().lines().filter(line -> !line.isBlank()).toList();
+        } catch (IOException | IllegalArgumentException e) {
+            return;
+        }
+        for (String line : previous) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length < 3) continue;
+            String className = fields[1];
+            String topLevel = className.contains("$") ? className.substring(0, className.indexOf('$')) : className;
+            if (compiledClasses.contains(topLevel) || !classFileExists(className)) continue;
+            lines.add(line);
+            String previousOwner = owners.putIfAbsent(fields[0], className + "." + fields[2]);
+            if (previousOwner != null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        duplicate(fields[0], className + "." + fields[2]), declarations.get(fields[0]));
+            }
+        }
+    }
+
+    private boolean classFileExists(String className) {
+        int lastDot = className.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : className.substring(0, lastDot);
+        try {
+            FileObject classFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, packageName,
+                    className.substring(lastDot + 1) + ".class");
+            return new File(classFile.toUri()).exists();
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String toLine(ExecutableElement method, TypeElement annotation) {
+        TypeElement declaringClass = (TypeElement) method.getEnclosingElement();
+        StringJoiner parameters = new StringJoiner(",");
+        for (VariableElement parameter : method.getParameters()) {
+            parameters.add(binaryName(parameter.asType()));
+        }
+        return String.join("\t",
+                annotationValue(method, annotation, "uniqueId"),
+                processingEnv.getElementUtils().getBinaryName(declaringClass).toString(),
+                method.getSimpleName().toString(),
+                parameters.toString(),
+                annotationValue(method, annotation, "groupName"),
+                String.valueOf(method.getModifiers().contains(Modifier.PUBLIC)));
+    }
+
+    private String annotationValue(ExecutableElement method, TypeElement annotation, String name) {
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().asElement().equals(annotation)) continue;
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                    processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals(name)) {
+                    return String.valueOf(entry.getValue().getValue());
+                }
+            }
+        }
+        return "";
+    }
+
+    private String binaryName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return binaryName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) erased).asElement();
+            return processingEnv.getElementUtils().getBinaryName(element).toString();
+        }
+        return erased.toString();
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Could not write @SyncAction index: " + e.getMessage());
+        }
+    }
+}
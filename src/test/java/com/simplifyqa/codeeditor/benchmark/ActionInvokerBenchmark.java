@@ -0,0 +1,69 @@
+package com.simplifyqa.codeeditor.benchmark;
+
+import com.simplifyqa.codeeditor.helper.IActionInvoker;
+import com.simplifyqa.codeeditor.helper.MethodHandleActionInvoker;
+import com.simplifyqa.codeeditor.helper.ReflectiveActionInvoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective and MethodHandle invokers on a typical @SyncAction shape.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.simplifyqa.codeeditor.benchmark.ActionInvokerBenchmark
+ * <p>
+ * Runs in the exec:java JVM: exec:java puts the test classpath on a class loader, not on
+ * java.class.path, so a forked benchmark JVM could not find these classes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+public class ActionInvokerBenchmark {
+    private final Target target = new Target();
+    private final Object[] args = {"value", 42};
+    private IActionInvoker reflective;
+    private IActionInvoker methodHandle;
+
+    public static class Target {
+        public boolean customStep(String text, int count) {
+            return text.length() < count;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        Method method = Target.class.getMethod("customStep", String.class, int.class);
+        reflective = new ReflectiveActionInvoker(method);
+        methodHandle = new MethodHandleActionInvoker(method);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return reflective.invoke(target, args);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Exception {
+        return methodHandle.invoke(target, args);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ActionInvokerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,161 @@
+package com.simplifyqa.codeeditor.benchmark;
+
+import com.simplifyqa.codeeditor.helper.CustomPackageScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Compares the class-loading package scan with the bytecode scan over a synthetic jar
+ * of 5k classes, one in a hundred declaring a @SyncAction method.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.simplifyqa.codeeditor.benchmark.PackageScannerBenchmark
+ * <p>
+ * Not forked, for the same reason as {@link ActionInvokerBenchmark}; every invocation scans
+ * through a new class loader, so the two scans do not share loaded classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(0)
+public class PackageScannerBenchmark {
+    private static final String PACKAGE = "com.simplifyqa.codeeditor.synthetic";
+    private static final int CLASS_COUNT = 5000;
+    private static final int PACKAGE_SIZE = 100;
+    private Path jar;
+
+    @Setup
+    public void setUp() throws IOException {
+        jar = Files.createTempFile("synthetic-actions", ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            String root = PACKAGE.replace('.', '/');
+            addDirectories(out, root);
+            for (int p = 0; p < CLASS_COUNT / PACKAGE_SIZE; p++) {
+                out.putNextEntry(new JarEntry(root + "/p" + p + "/"));
+                out.closeEntry();
+                for (int c = 0; c < PACKAGE_SIZE; c++) {
+                    String name = root + "/p" + p + "/Synthetic" + c;
+                    out.putNextEntry(new JarEntry(name + ".class"));
+                    out.write(classFile(name, c == 0 ? "synthetic-" + p : null));
+                    out.closeEntry();
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(jar);
+    }
+
+    @Benchmark
+    public int classLoadingScan() throws Exception {
+        try (URLClassLoader classLoader = newClassLoader()) {
+            return CustomPackageScanner.getClasses(PACKAGE, classLoader).size();
+        }
+    }
+
+    @Benchmark
+    public int bytecodeScan() throws Exception {
+        try (URLClassLoader classLoader = newClassLoader()) {
+            return CustomPackageScanner.scanSyncActions(PACKAGE, classLoader, null).size();
+        }
+    }
+
+    private URLClassLoader newClassLoader() throws IOException {
+        return new URLClassLoader(new URL[]{jar.toUri().toURL()}, null);
+    }
+
+    private static void addDirectories(JarOutputStream out, String path) throws IOException {
+        StringBuilder directory = new StringBuilder();
+        for (String part : path.split("/")) {
+            directory.append(part).append('/');
+            out.putNextEntry(new JarEntry(directory.toString()));
+            out.closeEntry();
+        }
+    }
+
+    /**
+     * Writes a minimal abstract class, optionally with one @SyncAction annotated abstract method.
+     */
+    private static byte[] classFile(String internalName, String uniqueId) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(52);
+        out.writeShort(uniqueId == null ? 5 : 11);
+        utf8(out, internalName);
+        out.writeByte(7);
+        out.writeShort(1);
+        utf8(out, "java/lang/Object");
+        out.writeByte(7);
+        out.writeShort(3);
+        if (uniqueId != null) {
+            utf8(out, "step");
+            utf8(out, "()Z");
+            utf8(out, "RuntimeVisibleAnnotations");
+            utf8(out, "Lcom/simplifyqa/pluginbase/codeeditor/annotations/SyncAction;");
+            utf8(out, "uniqueId");
+            utf8(out, uniqueId);
+        }
+        out.writeShort(0x0421);
+        out.writeShort(2);
+        out.writeShort(4);
+        out.writeShort(0);
+        out.writeShort(0);
+        if (uniqueId == null) {
+            out.writeShort(0);
+        } else {
+            out.writeShort(1);
+            out.writeShort(0x0401);
+            out.writeShort(5);
+            out.writeShort(6);
+            out.writeShort(1);
+            out.writeShort(7);
+            out.writeInt(11);
+            out.writeShort(1);
+            out.writeShort(8);
+            out.writeShort(1);
+            out.writeShort(9);
+            out.writeByte('s');
+            out.writeShort(10);
+        }
+        out.writeShort(0);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void utf8(DataOutputStream out, String value) throws IOException {
+        out.writeByte(1);
+        out.writeUTF(value);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PackageScannerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
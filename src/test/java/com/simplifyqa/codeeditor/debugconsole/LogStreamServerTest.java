@@ -0,0 +1,82 @@
+package com.simplifyqa.codeeditor.debugconsole;
+
+import junit.framework.TestCase;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+public class LogStreamServerTest extends TestCase {
+
+    public void testReplaysAndStreamsFilteredRecords() throws Exception {
+        try (LogStreamServer server = LogStreamServer.start(0, 2)) {
+            server.publish(new LogStreamRecord(Level.INFO.intValue(), "com.simplifyqa.codeeditor.a", "evicted"));
+            server.publish(new LogStreamRecord(Level.INFO.intValue(), "com.simplifyqa.codeeditor.a", "replayed"));
+            server.publish(new LogStreamRecord(Level.FINE.intValue(), "com.simplifyqa.codeeditor.a", "too fine"));
+            Thread.sleep(200);
+
+            BlockingQueue<LogStreamRecord> received = new LinkedBlockingQueue<>();
+            LogStreamClient client = new LogStreamClient("localhost", server.getPort(), Level.INFO,
+                    "com.simplifyqa.codeeditor", records -> received.addAll(records));
+            Thread listener = new Thread(client);
+            listener.start();
+            try {
+                assertEquals("replayed", next(received).message());
+
+                server.publish(new LogStreamRecord(Level.WARNING.intValue(), "other.logger", "filtered out"));
+                server.publish(new LogStreamRecord(Level.SEVERE.intValue(), "com.simplifyqa.codeeditor.b", "live"));
+                LogStreamRecord live = next(received);
+                assertEquals("live", live.message());
+                assertEquals("SEVERE com.simplifyqa.codeeditor.b: live", live.toString());
+                assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+            } finally {
+                client.close();
+                listener.join(5000);
+            }
+        }
+    }
+
+    public void testMalformedRequestOnlyDropsThatSubscriber() throws Exception {
+        try (LogStreamServer server = LogStreamServer.start(0, 10)) {
+            try (SocketChannel bad = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()))) {
+                bad.write(ByteBuffer.allocate(12).putInt(8).putInt(0).putInt(-5).flip());
+                assertEquals(-1, bad.read(ByteBuffer.allocate(16)));
+            }
+            server.publish(new LogStreamRecord(Level.INFO.intValue(), "com.simplifyqa.codeeditor.a", "still serving"));
+
+            BlockingQueue<LogStreamRecord> received = new LinkedBlockingQueue<>();
+            LogStreamClient client = new LogStreamClient("localhost", server.getPort(), Level.INFO, "", received::addAll);
+            Thread listener = new Thread(client);
+            listener.start();
+            try {
+                assertEquals("still serving", next(received).message());
+            } finally {
+                client.close();
+                listener.join(5000);
+            }
+        }
+    }
+
+    public void testEncodesBatches() {
+        LogStreamRecord first = new LogStreamRecord(800, "a", "héllo");
+        LogStreamRecord second = new LogStreamRecord(900, "", "");
+        byte[] a = first.encode();
+        byte[] b = second.encode();
+        byte[] payload = new byte[a.length + b.length];
+        System.arraycopy(a, 0, payload, 0, a.length);
+        System.arraycopy(b, 0, payload, a.length, b.length);
+        assertEquals(List.of(first, second), LogStreamRecord.decodeAll(payload));
+    }
+
+    private static LogStreamRecord next(BlockingQueue<LogStreamRecord> received) throws InterruptedException {
+        LogStreamRecord record = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(record);
+        return record;
+    }
+}
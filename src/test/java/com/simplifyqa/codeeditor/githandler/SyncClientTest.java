@@ -0,0 +1,81 @@
+package com.simplifyqa.codeeditor.githandler;
+
+import com.simplifyqa.pluginbase.plugin.sync.models.SyncResponse;
+import com.sun.net.httpserver.HttpServer;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class SyncClientTest extends TestCase {
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private volatile String response = "{\"saved\":true,\"pending\":false,\"errors\":null,\"extra\":[1,2]}";
+
+    @Override
+    protected void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/sync/codeeditor", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            if ("gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+                body = new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes();
+            }
+            bodies.add(new String(body, StandardCharsets.UTF_8));
+            requests.incrementAndGet();
+            String json = response;
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.start();
+    }
+
+    @Override
+    protected void tearDown() {
+        server.stop(0);
+    }
+
+    public void testParsesGzipJson() throws Exception {
+        SyncClient.Result result = client(true).send("/projects/demo");
+        assertEquals(200, result.statusCode());
+        assertTrue(result.body().isSaved());
+        assertEquals(List.of("/projects/demo"), bodies);
+    }
+
+    public void testReturnsPendingWithoutRetrying() throws Exception {
+        response = "{\"pending\":true,\"saved\":false,\"errors\":\"waiting, for review\"}";
+        SyncResponse body = client(false).send("/projects/demo").body();
+        assertTrue(body.isPending());
+        assertEquals("waiting, for review", body.getErrors());
+        assertEquals(1, requests.get());
+    }
+
+    public void testMalformedJsonMeansNoResponse() throws Exception {
+        response = "{\"saved\":tru";
+        SyncClient.Result result = client(false).send("/projects/demo");
+        assertEquals(200, result.statusCode());
+        assertNull(result.body());
+    }
+
+    public void testEmptyBodyMeansNoResponse() throws IOException {
+        assertNull(SyncClient.parse(new ByteArrayInputStream(" \n".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private SyncClient client(boolean gzipRequest) {
+        URI endPoint = URI.create("http://localhost:" + server.getAddress().getPort() + "/sync/codeeditor");
+        return new SyncClient(endPoint, Duration.ofSeconds(2), Duration.ofSeconds(5), gzipRequest);
+    }
+}
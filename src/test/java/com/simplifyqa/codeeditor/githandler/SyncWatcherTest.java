@@ -0,0 +1,104 @@
+package com.simplifyqa.codeeditor.githandler;
+
+import com.simplifyqa.codeeditor.helper.SyncActionIndex;
+import com.simplifyqa.codeeditor.helper.TestProjects;
+import com.simplifyqa.codeeditor.processor.SyncActionIndexProcessor;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+public class SyncWatcherTest extends TestCase {
+    private Path dir;
+    private Path sources;
+    private Path classes;
+    private SyncWatcher watcher;
+
+    @Override
+    protected void setUp() throws Exception {
+        dir = Files.createTempDirectory("codeeditor-watch-test");
+        sources = Files.createDirectories(dir.resolve("src"));
+        classes = Files.createDirectories(dir.resolve("classes"));
+        Files.createDirectories(sources.resolve("com/simplifyqa/codeeditor/sample"));
+        watcher = new SyncWatcher(sources, classes, classes + File.pathSeparator + System.getProperty("java.class.path"),
+                0, () -> 0);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        watcher.close();
+        TestProjects.delete(dir);
+    }
+
+    public void testAddChangeAndDeleteOfAnActionClass() throws Exception {
+        Path cart = write("Cart", action("add-item", "public"));
+        assertTrue(watcher.apply(Set.of(cart)));
+        assertEquals(List.of("add-item"), indexedIds());
+
+        write("Cart", action("add-to-cart", "public"));
+        assertTrue(watcher.apply(Set.of(cart)));
+        assertEquals(List.of("add-to-cart"), indexedIds());
+
+        Files.delete(cart);
+        assertTrue(watcher.apply(Set.of(cart)));
+        assertEquals(List.of(), indexedIds());
+        assertFalse(Files.exists(classes.resolve("com/simplifyqa/codeeditor/sample/Cart.class")));
+    }
+
+    public void testEditWithoutActionsIsNotSynced() throws Exception {
+        assertFalse(watcher.apply(Set.of(write("Plain", ""))));
+        assertTrue(Files.exists(classes.resolve("com/simplifyqa/codeeditor/sample/Plain.class")));
+    }
+
+    public void testDuplicateIdBlocksIndexAndSyncUntilFixed() throws Exception {
+        Path first = write("First", action("same-id", "public"));
+        assertTrue(watcher.apply(Set.of(first)));
+
+        Path second = write("Second", action("same-id", "public"));
+        assertFalse(watcher.apply(Set.of(second)));
+        assertEquals("the index keeps the last valid registry", List.of("same-id"), indexedIds());
+
+        write("Second", action("other-id", "public"));
+        assertTrue(watcher.apply(Set.of(second)));
+        assertEquals(List.of("other-id", "same-id"), indexedIds().stream().sorted().toList());
+    }
+
+    public void testRestartedWatcherKnowsTheCompiledActions() throws Exception {
+        assertTrue(watcher.apply(Set.of(write("First", action("same-id", "public")))));
+        watcher.close();
+        watcher = new SyncWatcher(sources, classes, classes + File.pathSeparator + System.getProperty("java.class.path"),
+                0, () -> 0);
+
+        assertFalse(watcher.apply(Set.of(write("Second", action("same-id", "public")))));
+    }
+
+    public void testNonPublicActionBlocksSync() throws Exception {
+        assertFalse(watcher.apply(Set.of(write("Hidden", action("hidden", "")))));
+        assertFalse(Files.exists(classes.resolve(SyncActionIndexProcessor.INDEX_LOCATION)));
+    }
+
+    private Path write(String name, String methods) throws Exception {
+        Path source = sources.resolve("com/simplifyqa/codeeditor/sample/" + name + ".java");
+        Files.writeString(source, "package com.simplifyqa.codeeditor.sample;\n"
+                + "import com.simplifyqa.pluginbase.codeeditor.annotations.SyncAction;\n"
+                + "import com.simplifyqa.pluginbase.common.enums.TechnologyType;\n"
+                + "import com.simplifyqa.pluginbase.plugin.annotations.ObjectTemplate;\n"
+                + "public class " + name + " {\n" + methods + "}\n");
+        return source;
+    }
+
+    private static String action(String uniqueId, String modifier) {
+        return "    @SyncAction(uniqueId = \"" + uniqueId + "\", objectTemplate = @ObjectTemplate(name = TechnologyType.GENERIC))\n"
+                + "    " + modifier + " boolean run() { return true; }\n";
+    }
+
+    private List<String> indexedIds() throws Exception {
+        return Files.readAllLines(classes.resolve(SyncActionIndexProcessor.INDEX_LOCATION)).stream()
+                .filter(line -> !line.isBlank())
+                .map(line -> SyncActionIndex.Entry.parse(line).uniqueId())
+                .toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.simplifyqa.codeeditor.helper;
+
+import junit.framework.TestCase;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+public class ActionSyncTrackerTest extends TestCase {
+    private Path dir;
+
+    @Override
+    protected void setUp() throws Exception {
+        dir = Files.createTempDirectory("codeeditor-sync-test");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        TestProjects.delete(dir);
+    }
+
+    public void testEditedActionIsReportedAsChanged() throws Exception {
+        ActionSyncTracker tracker = new ActionSyncTracker();
+        SyncDelta first = tracker.diff(null, actions("v1", "Greets the user"));
+        assertEquals(1, first.added().size());
+        assertTrue(tracker.accept(first.version()));
+
+        SyncDelta unchanged = tracker.diff(first.version(), actions("v1-rebuilt", "Greets the user"));
+        assertTrue(unchanged.isEmpty());
+        assertEquals(first.version(), unchanged.version());
+
+        SyncDelta edited = tracker.diff(first.version(), actions("v2", "Greets the user by name"));
+        assertEquals(first.version(), edited.baseVersion());
+        assertTrue(edited.added().isEmpty());
+        assertEquals(1, edited.changed().size());
+        assertTrue(edited.removed().isEmpty());
+    }
+
+    public void testOnlyTheLatestOfferCanBeAccepted() throws Exception {
+        ActionSyncTracker tracker = new ActionSyncTracker();
+        SyncDelta older = tracker.diff(null, actions("v1", "Greets the user"));
+        SyncDelta latest = tracker.diff(null, actions("v2", "Greets the user by name"));
+
+        assertFalse(tracker.accept(older.version()));
+        assertTrue(tracker.accept(latest.version()));
+        assertFalse("an accepted offer is not offered again", tracker.accept(latest.version()));
+        assertEquals(latest.version(), tracker.getAcceptedVersion());
+    }
+
+    private Map<String, ActionSyncTracker.SyncedAction> actions(String name, String description) throws Exception {
+        Path jar = TestProjects.jar(dir, name, Map.of(TestProjects.ACTION_CLASS,
+                "package com.simplifyqa.codeeditor.sample;\n"
+                        + "import com.simplifyqa.pluginbase.codeeditor.annotations.SyncAction;\n"
+                        + "import com.simplifyqa.pluginbase.common.enums.TechnologyType;\n"
+                        + "import com.simplifyqa.pluginbase.plugin.annotations.ObjectTemplate;\n"
+                        + "public class Greeter {\n"
+                        + "    @SyncAction(uniqueId = \"" + TestProjects.ACTION_ID + "\", groupName = \"Misc\", objectTemplate = "
+                        + "@ObjectTemplate(name = TechnologyType.GENERIC, description = \"" + description + "\"), objectRequired = false)\n"
+                        + "    public boolean greet(String version) { return \"" + name + "\".equals(version); }\n"
+                        + "}\n"));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, getClass().getClassLoader())) {
+            return ISyncActions.getSyncedActions(TestProjects.PACKAGES, loader, "p1");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplifyqa.pluginbase.argument.IArgument;
+import junit.framework.TestCase;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class ActionValidatorTest extends TestCase {
+    private final ActionValidator validator = new ActionValidator(new TypeCoercionEngine(new ObjectMapper()));
+
+    public static class Actions {
+        public boolean valid(String text, int count, List<String> items) {
+            return true;
+        }
+
+        public boolean validVarargs(String... values) {
+            return true;
+        }
+
+        public String notBoolean(String text) {
+            return text;
+        }
+
+        public boolean unconvertible(Runnable task) {
+            return true;
+        }
+
+        public boolean argumentVarargs(IArgument... arguments) {
+            return true;
+        }
+    }
+
+    public static class NoDefaultConstructor {
+        public NoDefaultConstructor(String name) {
+        }
+
+        public boolean run() {
+            return true;
+        }
+    }
+
+    private Path dir;
+
+    @Override
+    protected void tearDown() throws Exception {
+        TestProjects.delete(dir);
+    }
+
+    public void testAcceptsSupportedSignatures() throws Exception {
+        assertTrue(validator.validate(Actions.class.getMethod("valid", String.class, int.class, List.class)).isValid());
+        assertTrue(validator.validate(Actions.class.getMethod("validVarargs", String[].class)).isValid());
+    }
+
+    public void testRejectsNonBooleanReturn() throws Exception {
+        assertProblem(Actions.class.getMethod("notBoolean", String.class), "must return boolean");
+    }
+
+    public void testRejectsMissingNoArgumentConstructor() throws Exception {
+        assertProblem(NoDefaultConstructor.class.getMethod("run"), "needs a public no-argument constructor");
+    }
+
+    public void testRejectsUnconvertibleParameter() throws Exception {
+        assertProblem(Actions.class.getMethod("unconvertible", Runnable.class), "cannot be converted from step data");
+    }
+
+    public void testRejectsVarargsOfArguments() throws Exception {
+        assertProblem(Actions.class.getMethod("argumentVarargs", IArgument[].class), "cannot be filled from step data");
+    }
+
+    public void testCachesVerdictPerMethod() throws Exception {
+        Method method = Actions.class.getMethod("notBoolean", String.class);
+        assertSame(validator.validate(method), validator.validate(method));
+    }
+
+    public void testRegistrationDropsInvalidActionsWithoutInitializingTheirClass() throws Exception {
+        dir = Files.createTempDirectory("codeeditor-validator-test");
+        String property = "codeeditor.test.initialized." + System.nanoTime();
+        Path jar = TestProjects.jar(dir, "invalid", Map.of(TestProjects.ACTION_CLASS,
+                "package com.simplifyqa.codeeditor.sample;\n"
+                        + "public class Greeter {\n"
+                        + "    static { System.setProperty(\"" + property + "\", \"true\"); }\n"
+                        + "    public String greet(String version) { return version; }\n"
+                        + "}\n"));
+        CustomMethodInvoker invoker = new CustomMethodInvoker();
+        invoker.registerProject("p1", List.of(jar), TestProjects.PACKAGES);
+
+        try {
+            invoker.leaseAction("p1_" + TestProjects.ACTION_ID, "p1");
+            fail("An invalid action must not be registered");
+        } catch (NoSuchMethodException expected) {
+        }
+        assertNull("validation must not run static initializers", System.getProperty(property));
+        invoker.unloadProject("p1");
+    }
+
+    private void assertProblem(Method method, String problem) {
+        ActionValidator.Verdict verdict = validator.validate(method);
+        assertFalse(verdict.isValid());
+        assertTrue(verdict.toString(), verdict.toString().contains(problem));
+    }
+}
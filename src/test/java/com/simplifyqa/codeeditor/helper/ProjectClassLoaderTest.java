@@ -0,0 +1,103 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.codeeditor.processor.SyncActionIndexProcessor;
+import junit.framework.TestCase;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ProjectClassLoaderTest extends TestCase {
+    private Path dir;
+
+    @Override
+    protected void setUp() throws Exception {
+        dir = Files.createTempDirectory("codeeditor-loader-test");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        TestProjects.delete(dir);
+    }
+
+    public void testProjectsShippingTheSameClassAreIsolated() throws Exception {
+        try (ProjectClassLoader first = loader("p1", TestProjects.actionJar(dir, "v1"));
+             ProjectClassLoader second = loader("p2", TestProjects.actionJar(dir, "v2"))) {
+            Class<?> firstClass = first.loadClass(TestProjects.ACTION_CLASS);
+            Class<?> secondClass = second.loadClass(TestProjects.ACTION_CLASS);
+
+            assertNotSame(firstClass, secondClass);
+            assertSame(first, firstClass.getClassLoader());
+            assertEquals(Boolean.TRUE, greet(firstClass, "v1"));
+            assertEquals(Boolean.FALSE, greet(secondClass, "v1"));
+            assertEquals(1, Collections.list(first.getResources(SyncActionIndexProcessor.INDEX_LOCATION)).size());
+        }
+    }
+
+    public void testSharedPackagesAreLoadedFromTheParent() throws Exception {
+        Path jar = TestProjects.jar(dir, "shadowing", Map.of(
+                TestProjects.ACTION_CLASS, TestProjects.actionSource("v1"),
+                ActionLease.class.getName(), "package com.simplifyqa.codeeditor.helper;\npublic class ActionLease {}\n"));
+        try (ProjectClassLoader loader = loader("p1", jar)) {
+            assertSame(ActionLease.class, loader.loadClass(ActionLease.class.getName()));
+            assertSame(String.class, loader.loadClass("java.lang.String"));
+            assertSame(loader, loader.loadClass(TestProjects.ACTION_CLASS).getClassLoader());
+        }
+    }
+
+    public void testRetiredVersionClosesOnlyOnceDrained() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        ProjectActions project = new ProjectActions("p1", loader("p1", TestProjects.actionJar(dir, "v1")), () -> closed.set(true));
+
+        assertTrue(project.enter());
+        project.retire();
+        assertFalse("a retired version admits no new steps", project.enter());
+        assertFalse("the running step still holds the version", closed.get());
+
+        project.exit();
+        assertTrue(closed.get());
+        assertEquals(0, project.getRegistry().size());
+    }
+
+    public void testReloadLetsRunningStepFinishOnThePreviousVersion() throws Exception {
+        CustomMethodInvoker invoker = new CustomMethodInvoker();
+        AtomicBoolean v1Unloaded = new AtomicBoolean();
+        AtomicBoolean v2Unloaded = new AtomicBoolean();
+        String methodId = "p1_" + TestProjects.ACTION_ID;
+        invoker.registerProject("p1", List.of(TestProjects.actionJar(dir, "v1")), TestProjects.PACKAGES, () -> v1Unloaded.set(true));
+
+        try (ActionLease running = invoker.leaseAction(methodId, "p1")) {
+            invoker.registerProject("p1", List.of(TestProjects.actionJar(dir, "v2")), TestProjects.PACKAGES, () -> v2Unloaded.set(true));
+            try (ActionLease next = invoker.leaseAction(methodId, "p1")) {
+                assertEquals(Boolean.FALSE, invoke(next.getAction(), "v1"));
+            }
+            assertEquals(Boolean.TRUE, invoke(running.getAction(), "v1"));
+            assertFalse(v1Unloaded.get());
+        }
+        assertTrue(v1Unloaded.get());
+
+        assertTrue(invoker.unloadProject("p1"));
+        assertTrue(v2Unloaded.get());
+        try {
+            invoker.leaseAction(methodId, "p1");
+            fail("An unloaded project has no actions");
+        } catch (NoSuchMethodException expected) {
+        }
+    }
+
+    private static ProjectClassLoader loader(String projectId, Path jar) throws Exception {
+        return new ProjectClassLoader(projectId, new URL[]{jar.toUri().toURL()}, ProjectClassLoaderTest.class.getClassLoader());
+    }
+
+    private static Object greet(Class<?> actionClass, String version) throws Exception {
+        return actionClass.getMethod("greet", String.class).invoke(actionClass.getConstructor().newInstance(), version);
+    }
+
+    private static Object invoke(ActionDescriptor action, String version) throws Exception {
+        return action.getInvoker().invoke(action.newInstance(), new Object[]{version});
+    }
+}
@@ -0,0 +1,84 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.codeeditor.exceptions.StepTimeoutException;
+import junit.framework.TestCase;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class StepExecutorTest extends TestCase {
+    private final StepExecutor executor = new StepExecutor(false, 0);
+
+    public void testCompletesOnTheCallingThread() throws Exception {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        Object result = executor.execute("p1_a", () -> {
+            ranOn.set(Thread.currentThread());
+            return true;
+        }, 1000);
+
+        assertEquals(Boolean.TRUE, result);
+        assertSame(Thread.currentThread(), ranOn.get());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    public void testInterruptsTheStepAtTheDeadline() throws Exception {
+        AtomicReference<Boolean> interrupted = new AtomicReference<>();
+        long start = System.nanoTime();
+        try {
+            executor.execute("p1_a", () -> {
+                try {
+                    Thread.sleep(10_000);
+                    interrupted.set(false);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                return true;
+            }, 100);
+            fail("The step should have timed out");
+        } catch (StepTimeoutException expected) {
+        }
+
+        assertEquals(Boolean.TRUE, interrupted.get());
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 5_000);
+        assertFalse("the watchdog's interrupt is cleared", Thread.currentThread().isInterrupted());
+    }
+
+    public void testActionExceptionIsNotATimeout() {
+        try {
+            executor.execute("p1_a", () -> {
+                throw new InvocationTargetException(new IllegalStateException("boom"));
+            }, 1000);
+            fail("The action's exception should propagate");
+        } catch (InvocationTargetException e) {
+            assertEquals("boom", e.getCause().getMessage());
+        } catch (IllegalAccessException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    public void testForeignInterruptIsNotReportedAsTimeout() throws Exception {
+        Thread.currentThread().interrupt();
+        try {
+            executor.execute("p1_a", () -> {
+                try {
+                    Thread.sleep(1000);
+                    return true;
+                } catch (InterruptedException e) {
+                    throw new InvocationTargetException(e);
+                }
+            }, 10_000);
+            fail("The action's exception should propagate");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof InterruptedException);
+        }
+    }
+
+    public void testPollsUntilTrue() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Object result = new StepExecutor(true, 10).execute("p1_a", () -> calls.incrementAndGet() == 3, 5_000);
+
+        assertEquals(Boolean.TRUE, result);
+        assertEquals(3, calls.get());
+    }
+}
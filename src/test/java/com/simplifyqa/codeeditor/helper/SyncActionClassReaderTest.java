@@ -0,0 +1,92 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.codeeditor.processor.SyncActionIndexProcessor;
+import junit.framework.TestCase;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class SyncActionClassReaderTest extends TestCase {
+    private static final String SOURCE = "package com.simplifyqa.codeeditor.sample;\n"
+            + "import com.simplifyqa.pluginbase.codeeditor.annotations.SyncAction;\n"
+            + "import com.simplifyqa.pluginbase.common.enums.TechnologyType;\n"
+            + "import com.simplifyqa.pluginbase.plugin.annotations.ObjectTemplate;\n"
+            + "public class Shop {\n"
+            + "    @SyncAction(uniqueId = \"open-shop\", groupName = \"Shop\", objectTemplate = @ObjectTemplate(name = TechnologyType.GENERIC))\n"
+            + "    public boolean open(String url, long timeout, int[][] grid, java.util.Map<String, Integer> stock) { return true; }\n"
+            + "    @SyncAction(uniqueId = \"close-shop\", objectTemplate = @ObjectTemplate(name = TechnologyType.GENERIC))\n"
+            + "    public boolean close(String... reasons) { return true; }\n"
+            + "    public boolean notAnAction() { return true; }\n"
+            + "    public static class Till {\n"
+            + "        @SyncAction(uniqueId = \"count-till\", objectTemplate = @ObjectTemplate(name = TechnologyType.GENERIC))\n"
+            + "        public boolean count(Till other, char currency) { return true; }\n"
+            + "    }\n"
+            + "}\n";
+
+    private Path dir;
+
+    @Override
+    protected void setUp() throws Exception {
+        dir = Files.createTempDirectory("codeeditor-reader-test");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        TestProjects.delete(dir);
+    }
+
+    public void testReadsTheSameEntriesTheProcessorIndexes() throws Exception {
+        Path classes = dir.resolve("classes");
+        TestProjects.Compilation compilation = TestProjects.compile(dir, classes, Map.of("com.simplifyqa.codeeditor.sample.Shop", SOURCE),
+                "-processor", SyncActionIndexProcessor.class.getName(), "-processorpath", System.getProperty("java.class.path"));
+        assertTrue(compilation.output(), compilation.success());
+
+        List<SyncActionIndex.Entry> read = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(classes)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".class"))::iterator) {
+                read.addAll(SyncActionClassReader.read(Files.readAllBytes(file)));
+            }
+        }
+        List<SyncActionIndex.Entry> indexed = Files.readAllLines(classes.resolve(SyncActionIndexProcessor.INDEX_LOCATION)).stream()
+                .filter(line -> !line.isBlank())
+                .map(SyncActionIndex.Entry::parse)
+                .toList();
+
+        assertEquals(3, indexed.size());
+        assertEquals(sorted(indexed), sorted(read));
+        assertTrue(read.contains(new SyncActionIndex.Entry("close-shop", "com.simplifyqa.codeeditor.sample.Shop", "close",
+                List.of("java.lang.String[]"), "", true)));
+    }
+
+    public void testReportsNonPublicActions() throws Exception {
+        Path classes = dir.resolve("classes");
+        TestProjects.Compilation compilation = TestProjects.compile(dir, classes, Map.of("com.simplifyqa.codeeditor.sample.Hidden",
+                SOURCE.replace("public class Shop", "public class Hidden").replace("public boolean close", "boolean close")), "-proc:none");
+        assertTrue(compilation.output(), compilation.success());
+
+        List<SyncActionIndex.Entry> read = SyncActionClassReader.read(Files.readAllBytes(
+                classes.resolve("com/simplifyqa/codeeditor/sample/Hidden.class")));
+
+        assertEquals(2, read.size());
+        assertFalse(read.stream().filter(entry -> entry.uniqueId().equals("close-shop")).findFirst().orElseThrow().isPublic());
+    }
+
+    public void testIgnoresClassesWithoutActionsAndUnreadableBytes() throws Exception {
+        Path classes = dir.resolve("classes");
+        TestProjects.compile(dir, classes, Map.of("com.simplifyqa.codeeditor.sample.Plain",
+                "package com.simplifyqa.codeeditor.sample;\npublic class Plain {\n    public boolean run() { return true; }\n}\n"), "-proc:none");
+
+        assertTrue(SyncActionClassReader.read(Files.readAllBytes(classes.resolve("com/simplifyqa/codeeditor/sample/Plain.class"))).isEmpty());
+        assertTrue(SyncActionClassReader.read(new byte[]{(byte) 0xCA, (byte) 0xFE}).isEmpty());
+        assertTrue(SyncActionClassReader.read("not a class file".getBytes()).isEmpty());
+    }
+
+    private static List<SyncActionIndex.Entry> sorted(List<SyncActionIndex.Entry> entries) {
+        return entries.stream().sorted(Comparator.comparing(SyncActionIndex.Entry::uniqueId)).toList();
+    }
+}
@@ -0,0 +1,109 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.simplifyqa.codeeditor.processor.SyncActionIndexProcessor;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Builds customer project jars at test time: sources compiled against the test classpath,
+ * plus a @SyncAction index for the sample action.
+ */
+public final class TestProjects {
+    public static final List<String> PACKAGES = List.of("com.simplifyqa.codeeditor");
+    public static final String ACTION_CLASS = "com.simplifyqa.codeeditor.sample.Greeter";
+    public static final String ACTION_ID = "greet";
+
+    private TestProjects() {
+    }
+
+    /**
+     * Source of the sample action; {@code greet(version)} is true only in the given version.
+     */
+    public static String actionSource(String version) {
+        return "package com.simplifyqa.codeeditor.sample;\n"
+                + "public class Greeter {\n"
+                + "    public boolean greet(String version) {\n"
+                + "        return \"" + version + "\".equals(version);\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    /**
+     * A jar holding only the sample action of the given version.
+     */
+    public static Path actionJar(Path dir, String version) throws IOException {
+        return jar(dir, version, Map.of(ACTION_CLASS, actionSource(version)));
+    }
+
+    public record Compilation(boolean success, String output) {
+    }
+
+    /**
+     * Compiles the sources, by class name, into {@code classes} against the test classpath
+     * and {@code classes} itself, with the extra javac options.
+     */
+    public static Compilation compile(Path work, Path classes, Map<String, String> sources, String... options) throws IOException {
+        Files.createDirectories(classes);
+        String classpath = classes + File.pathSeparator + System.getProperty("java.class.path");
+        List<String> arguments = new ArrayList<>(List.of("-d", classes.toString(), "-cp", classpath));
+        arguments.addAll(List.of(options));
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = work.resolve("src").resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue());
+            arguments.add(file.toString());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        boolean success = compiler.run(null, output, output, arguments.toArray(new String[0])) == 0;
+        return new Compilation(success, output.toString(StandardCharsets.UTF_8));
+    }
+
+    public static Path jar(Path dir, String name, Map<String, String> sources) throws IOException {
+        Path work = Files.createDirectories(dir.resolve(name));
+        Path classes = work.resolve("classes");
+        Compilation compilation = compile(work, classes, sources, "-proc:none");
+        if (!compilation.success()) {
+            throw new IllegalStateException("Project " + name + " does not compile: " + compilation.output());
+        }
+        SyncActionIndex.Entry entry = new SyncActionIndex.Entry(ACTION_ID, ACTION_CLASS, "greet",
+                List.of("java.lang.String"), "Misc", true);
+        Path index = classes.resolve(SyncActionIndexProcessor.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, entry.toLine() + "\n", StandardCharsets.UTF_8);
+
+        Path jar = dir.resolve(name + ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> tree = Files.walk(classes)) {
+            for (Path path : (Iterable<Path>) tree.filter(Files::isRegularFile)::iterator) {
+                out.putNextEntry(new JarEntry(classes.relativize(path).toString().replace('\\', '/')));
+                Files.copy(path, out);
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    public static void delete(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) return;
+        try (Stream<Path> tree = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) tree.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.simplifyqa.codeeditor.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junit.framework.TestCase;
+
+import java.util.List;
+
+public class TypeCoercionEngineTest extends TestCase {
+    private final TypeCoercionEngine engine = new TypeCoercionEngine(new ObjectMapper());
+
+    public void testSniffShapes() {
+        assertEquals(TypeCoercionEngine.Shape.NUMBER, TypeCoercionEngine.sniff(" -12.5"));
+        assertEquals(TypeCoercionEngine.Shape.LITERAL, TypeCoercionEngine.sniff("true"));
+        assertEquals(TypeCoercionEngine.Shape.QUOTED, TypeCoercionEngine.sniff("\"hello\""));
+        assertEquals(TypeCoercionEngine.Shape.STRUCTURE, TypeCoercionEngine.sniff("[1,2]"));
+        assertEquals(TypeCoercionEngine.Shape.RAW, TypeCoercionEngine.sniff("hello"));
+        assertEquals(TypeCoercionEngine.Shape.RAW, TypeCoercionEngine.sniff(""));
+    }
+
+    public void testCoercesScalars() {
+        assertEquals("hello", engine.coerce("hello", String.class));
+        assertEquals("hello", engine.coerce("\"hello\"", String.class));
+        assertEquals(42, engine.coerce(" 42 ", int.class));
+        assertEquals(Boolean.TRUE, engine.coerce("TRUE", boolean.class));
+        assertEquals(4.5, engine.coerce("4.5", double.class));
+    }
+
+    public void testStringShortcutKeepsJsonSemantics() {
+        assertNull(engine.coerce("null", String.class));
+        assertNull(engine.coerce(" null ", String.class));
+        assertEquals("42", engine.coerce(" 42 ", String.class));
+        assertEquals("1.50", engine.coerce("1.50", String.class));
+        assertEquals("true", engine.coerce(" true ", String.class));
+        assertEquals(" hello ", engine.coerce(" hello ", String.class));
+        assertEquals("nullable", engine.coerce("nullable", String.class));
+    }
+
+    public void testBooleanShortcutAcceptsOnlyJacksonSpellings() {
+        assertEquals(Boolean.FALSE, engine.coerce(" False ", Boolean.class));
+        try {
+            engine.coerce("tRuE", boolean.class);
+            fail("Mixed-case booleans were never accepted");
+        } catch (RuntimeException expected) {
+        }
+    }
+
+    public void testCoercesJsonStructures() {
+        assertEquals(List.of("a", "b"), engine.coerce("[\"a\",\"b\"]", List.class));
+    }
+
+    public void testCachesConverterPerType() {
+        assertSame(engine.converterFor(Integer.class), engine.converterFor(Integer.class));
+    }
+}
@@ -0,0 +1,129 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import com.simplifyqa.codeeditor.helper.ActionDescriptor;
+import com.simplifyqa.codeeditor.helper.CustomMethodInvoker;
+import com.simplifyqa.codeeditor.helper.TestProjects;
+import junit.framework.TestCase;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ClassInstanceCacheTest extends TestCase {
+    private static final String METHOD_ID = "p1_" + TestProjects.ACTION_ID;
+
+    private Path dir;
+
+    @Override
+    protected void setUp() throws Exception {
+        dir = Files.createTempDirectory("codeeditor-cache-test");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        TestProjects.delete(dir);
+    }
+
+    public void testReusesInstancePerThread() throws Exception {
+        CustomMethodInvoker invoker = new CustomMethodInvoker();
+        invoker.registerProject("p1", List.of(TestProjects.actionJar(dir, "v1")), TestProjects.PACKAGES);
+        ClassInstanceCache cache = new ClassInstanceCache(true);
+        ActionDescriptor action = invoker.getAction(METHOD_ID, "p1");
+
+        Object instance = cache.get(action);
+        AtomicReference<Object> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(instanceOf(cache, action)));
+        thread.start();
+        thread.join();
+
+        assertSame(instance, cache.get(action));
+        assertNotNull(other.get());
+        assertNotSame(instance, other.get());
+    }
+
+    public void testAbandonedInstanceIsReplacedForItsThreadOnly() throws Exception {
+        CustomMethodInvoker invoker = new CustomMethodInvoker();
+        invoker.registerProject("p1", List.of(TestProjects.actionJar(dir, "v1")), TestProjects.PACKAGES);
+        ClassInstanceCache cache = new ClassInstanceCache(true);
+        ActionDescriptor action = invoker.getAction(METHOD_ID, "p1");
+        Object abandoned = cache.get(action);
+        CountDownLatch evicted = new CountDownLatch(1);
+        AtomicReference<Object> before = new AtomicReference<>();
+        AtomicReference<Object> after = new AtomicReference<>();
+        Thread other = new Thread(() -> {
+            before.set(instanceOf(cache, action));
+            try {
+                evicted.await();
+            } catch (InterruptedException ignored) {
+            }
+            after.set(instanceOf(cache, action));
+        });
+        other.start();
+
+        cache.evict(abandoned);
+        evicted.countDown();
+        other.join();
+        Object next = cache.get(action);
+        assertNotSame(abandoned, next);
+        cache.evict(abandoned);
+        assertSame("a stale eviction keeps the replacement", next, cache.get(action));
+        assertNotNull(before.get());
+        assertSame("other threads keep their instance", before.get(), after.get());
+    }
+
+    public void testReloadRunsNewCodeAndReleasesThePreviousLoader() throws Exception {
+        CustomMethodInvoker invoker = new CustomMethodInvoker();
+        ClassInstanceCache cache = new ClassInstanceCache(true);
+        invoker.registerProject("p1", List.of(TestProjects.actionJar(dir, "v1")), TestProjects.PACKAGES);
+        WeakReference<ClassLoader> v1Loader = new WeakReference<>(invoker.getProjectClassLoader("p1"));
+        Thread idle = populateOnOtherThread(cache, invoker);
+        assertEquals(Boolean.TRUE, greet(cache, invoker.getAction(METHOD_ID, "p1"), "v1"));
+
+        invoker.registerProject("p1", List.of(TestProjects.actionJar(dir, "v2")), TestProjects.PACKAGES);
+        assertEquals(Boolean.FALSE, greet(cache, invoker.getAction(METHOD_ID, "p1"), "v1"));
+
+        for (int i = 0; i < 50 && v1Loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull("v1 instances left in the idle thread's map pin the old loader", v1Loader.get());
+        assertTrue(idle.isAlive());
+        idle.interrupt();
+    }
+
+    /**
+     * Caches a v1 instance for a thread that stays alive but runs no further steps and keeps
+     * no reference to the action itself.
+     */
+    private static Thread populateOnOtherThread(ClassInstanceCache cache, CustomMethodInvoker invoker) throws Exception {
+        AtomicReference<ActionDescriptor> handOff = new AtomicReference<>(invoker.getAction(METHOD_ID, "p1"));
+        CountDownLatch populated = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            instanceOf(cache, handOff.getAndSet(null));
+            populated.countDown();
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException ignored) {
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        populated.await();
+        return thread;
+    }
+
+    private static Object greet(ClassInstanceCache cache, ActionDescriptor action, String version) throws Exception {
+        return action.getInvoker().invoke(cache.get(action), new Object[]{version});
+    }
+
+    private static Object instanceOf(ClassInstanceCache cache, ActionDescriptor action) {
+        try {
+            return cache.get(action);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junit.framework.TestCase;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class NetworkLogFilterTest extends TestCase {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String[] PROPERTIES = {
+            "codeeditor.networkLogs.urlPattern", "codeeditor.networkLogs.resourceTypes", "codeeditor.networkLogs.sampleRate"};
+
+    @Override
+    protected void tearDown() {
+        for (String property : PROPERTIES) System.clearProperty(property);
+    }
+
+    public void testKeepsEntriesMatchingUrlAndResourceType() throws Exception {
+        NetworkLogFilter filter = new NetworkLogFilter(Pattern.compile("/api/"), Set.of("XHR", "Fetch"), 1);
+
+        assertTrue(filter.test(entry("https://shop.test/api/cart", "XHR")));
+        assertTrue(filter.test(entry("https://shop.test/api/cart", "fetch")));
+        assertFalse(filter.test(entry("https://shop.test/logo.png", "XHR")));
+        assertFalse(filter.test(entry("https://shop.test/api/cart", "Image")));
+        assertFalse("an entry without a URL cannot match the pattern", filter.test(mapper.readTree("{\"params\":{}}")));
+    }
+
+    public void testSamplesEvenlyOverTheSession() throws Exception {
+        NetworkLogFilter filter = new NetworkLogFilter(null, Set.of(), 0.25);
+        int kept = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filter.test(entry("https://shop.test/" + i, "XHR"))) kept++;
+        }
+        assertEquals(25, kept);
+    }
+
+    public void testIsConfiguredFromSystemProperties() throws Exception {
+        assertNull("no property, no filter", NetworkLogFilter.fromSystemProperties());
+
+        System.setProperty("codeeditor.networkLogs.urlPattern", "\\.json$");
+        System.setProperty("codeeditor.networkLogs.resourceTypes", "XHR, Fetch");
+        NetworkLogFilter filter = NetworkLogFilter.fromSystemProperties();
+
+        assertNotNull(filter);
+        assertTrue(filter.test(entry("https://shop.test/items.json", "Fetch")));
+        assertFalse(filter.test(entry("https://shop.test/items.json", "Document")));
+        assertFalse(filter.test(entry("https://shop.test/items.html", "XHR")));
+    }
+
+    private static JsonNode entry(String url, String type) throws Exception {
+        return mapper.readTree("{\"method\":\"Network.responseReceived\",\"params\":{\"type\":\"" + type
+                + "\",\"response\":{\"url\":\"" + url + "\",\"status\":200}}}");
+    }
+}
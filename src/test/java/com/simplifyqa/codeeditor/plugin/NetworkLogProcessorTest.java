@@ -0,0 +1,131 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplifyqa.pluginbase.common.models.web.networklogs.NetworkLogs;
+import com.simplifyqa.pluginbase.common.models.web.networklogs.NetworkLogsWrapper;
+import junit.framework.TestCase;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class NetworkLogProcessorTest extends TestCase {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public void testSingleStepMakesTimestampsStepRelative() throws Exception {
+        NetworkLogProcessor processor = new NetworkLogProcessor(100, null);
+        NetworkLogsWrapper session = session(1_000, 1_250, 900);
+
+        List<NetworkLogs> logs = processor.process(1_000, session).getNetworkLogs();
+
+        assertEquals(List.of(0L, 250L, 0L), timestamps(logs));
+        assertNotNull(logs.get(1).getParams().getLocalDateTimeStamp());
+        assertTrue("processed entries are drained from the session", session.getNetworkLogs().isEmpty());
+    }
+
+    public void testSeveralStepsOnAGrowingSessionOnlyProcessNewEntries() throws Exception {
+        NetworkLogProcessor processor = new NetworkLogProcessor(2, null);
+        NetworkLogsWrapper session = session();
+        long stepStart = 10_000;
+        for (int step = 0; step < 5; step++) {
+            int added = step + 1;
+            for (int i = 0; i < added; i++) {
+                session.getNetworkLogs().add(entry(stepStart + 10 * (i + 1)));
+            }
+            List<NetworkLogs> logs = processor.process(stepStart, session).getNetworkLogs();
+
+            assertEquals(Math.min(added, 2), logs.size());
+            for (long timestamp : timestamps(logs)) {
+                assertTrue("step " + step + " timestamp " + timestamp, timestamp > 0 && timestamp <= 10L * added);
+            }
+            assertTrue(session.getNetworkLogs().isEmpty());
+            stepStart += 1_000;
+        }
+    }
+
+    public void testSessionChangeRestartsTheCursor() throws Exception {
+        NetworkLogProcessor processor = new NetworkLogProcessor(100, null);
+        processor.process(1_000, session(1_100, 1_200, 1_300));
+
+        List<NetworkLogs> logs = processor.process(5_000, session(5_050)).getNetworkLogs();
+
+        assertEquals(List.of(50L), timestamps(logs));
+    }
+
+    public void testFilterDropsEntriesFromTheStepWindowOnly() throws Exception {
+        NetworkLogProcessor processor = new NetworkLogProcessor(100, null);
+        processor.setFilter(l -> l.getParams().getTimestamp() % 2 == 0);
+        NetworkLogsWrapper session = session(1_002, 1_003, 1_004);
+
+        List<NetworkLogs> logs = processor.process(1_000, session).getNetworkLogs();
+
+        assertEquals(List.of(2L, 4L), timestamps(logs));
+        assertTrue(session.getNetworkLogs().isEmpty());
+    }
+
+    public void testOverflowIsSpilledAndTheSpillDeletedOnReset() throws Exception {
+        Path file = Files.createTempFile("network-logs", ".jsonl");
+        NetworkLogProcessor processor = new NetworkLogProcessor(1, new NetworkLogSpill(file));
+
+        List<NetworkLogs> logs = processor.process(1_000, session(1_100, 1_200, 1_300)).getNetworkLogs();
+
+        assertEquals(List.of(300L), timestamps(logs));
+        assertEquals(List.of(100L, 200L), timestamps(processor.spilled()));
+        processor.reset();
+        assertFalse(Files.exists(file));
+    }
+
+    public void testRetainedEntriesStayBoundedOverALongSession() throws Exception {
+        Path file = Files.createTempFile("network-logs", ".jsonl");
+        NetworkLogProcessor processor = new NetworkLogProcessor(5, new NetworkLogSpill(file));
+        NetworkLogsWrapper session = session();
+        long stepStart = 0;
+        int spilled = 0;
+        for (int step = 0; step < 2_000; step++) {
+            int added = step % 9;
+            for (int i = 0; i < added; i++) {
+                session.getNetworkLogs().add(entry(stepStart + i + 1));
+            }
+            List<NetworkLogs> logs = processor.process(stepStart, session).getNetworkLogs();
+
+            assertEquals(Math.min(added, 5), logs.size());
+            assertTrue(session.getNetworkLogs().isEmpty());
+            spilled += Math.max(0, added - 5);
+            stepStart += 1_000;
+        }
+        assertEquals(spilled, processor.spilled().size());
+        processor.reset();
+        assertFalse(Files.exists(file));
+    }
+
+    public void testUnmodifiableSessionIsReadThroughTheCursor() throws Exception {
+        NetworkLogProcessor processor = new NetworkLogProcessor(100, null);
+        List<NetworkLogs> entries = new ArrayList<>(List.of(entry(1_100), entry(1_200)));
+        NetworkLogsWrapper session = session();
+        session.setNetworkLogs(Collections.unmodifiableList(entries));
+
+        assertEquals(2, processor.process(1_000, session).getNetworkLogs().size());
+        entries.add(entry(2_300));
+        assertEquals(List.of(300L), timestamps(processor.process(2_000, session).getNetworkLogs()));
+    }
+
+    private NetworkLogsWrapper session(long... epochMillis) throws Exception {
+        NetworkLogsWrapper wrapper = mapper.readValue("{\"networkLogs\":[]}", NetworkLogsWrapper.class);
+        for (long timestamp : epochMillis) {
+            wrapper.getNetworkLogs().add(entry(timestamp));
+        }
+        return wrapper;
+    }
+
+    private NetworkLogs entry(long epochMillis) throws Exception {
+        return mapper.readValue("{\"params\":{\"timestamp\":" + epochMillis + "}}", NetworkLogs.class);
+    }
+
+    private static List<Long> timestamps(List<NetworkLogs> logs) {
+        List<Long> timestamps = new ArrayList<>();
+        for (NetworkLogs l : logs) timestamps.add(l.getParams().getTimestamp());
+        return timestamps;
+    }
+}
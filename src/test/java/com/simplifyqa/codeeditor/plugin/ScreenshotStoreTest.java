@@ -0,0 +1,47 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import junit.framework.TestCase;
+
+public class ScreenshotStoreTest extends TestCase {
+
+    public void testRepeatedScreenshotIsSentAsReference() {
+        ScreenshotStore store = new ScreenshotStore(4);
+
+        assertEquals("aGVsbG8=", store.dedupe("aGVsbG8="));
+        assertEquals(ScreenshotStore.REFERENCE_PREFIX + ScreenshotStore.hash("aGVsbG8="), store.dedupe("aGVsbG8="));
+        assertEquals("d29ybGQ=", store.dedupe("d29ybGQ="));
+    }
+
+    public void testLeastRecentlySentScreenshotIsEvicted() {
+        ScreenshotStore store = new ScreenshotStore(2);
+        store.dedupe("a");
+        store.dedupe("b");
+        assertTrue(store.dedupe("a").startsWith(ScreenshotStore.REFERENCE_PREFIX));
+
+        store.dedupe("c");
+        assertEquals("b was the least recently sent", "b", store.dedupe("b"));
+        assertTrue(store.dedupe("c").startsWith(ScreenshotStore.REFERENCE_PREFIX));
+    }
+
+    public void testClearForgetsSentScreenshots() {
+        ScreenshotStore store = new ScreenshotStore(2);
+        store.dedupe("a");
+        store.clear();
+
+        assertEquals("a", store.dedupe("a"));
+        assertNull(store.dedupe(null));
+        assertEquals("", store.dedupe(""));
+    }
+
+    public void testDedupIsOffByDefault() {
+        String previous = System.clearProperty("codeeditor.screenshot.dedup");
+        try {
+            assertFalse(ScreenshotStore.isEnabled());
+            System.setProperty("codeeditor.screenshot.dedup", "true");
+            assertTrue(ScreenshotStore.isEnabled());
+        } finally {
+            if (previous == null) System.clearProperty("codeeditor.screenshot.dedup");
+            else System.setProperty("codeeditor.screenshot.dedup", previous);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.simplifyqa.codeeditor.plugin;
+
+import junit.framework.TestCase;
+
+import java.util.Map;
+import java.util.Set;
+
+public class StepMetricsTest extends TestCase {
+
+    public void testOnlyRecordedPhasesAreReported() {
+        StepMetrics metrics = new StepMetrics(true);
+        metrics.stop("p1_a", StepPhase.LOOKUP, metrics.start());
+        metrics.stop("p1_a", StepPhase.TOTAL, metrics.start());
+        metrics.failure("p1_a");
+
+        StepMetrics.ActionSnapshot action = metrics.snapshot().get("p1_a");
+        assertEquals(Set.of(StepPhase.LOOKUP, StepPhase.TOTAL), action.phases().keySet());
+        assertEquals(1, action.steps());
+        assertEquals(1, action.failures());
+    }
+
+    public void testActionsBeyondTheLimitArePooled() {
+        StepMetrics metrics = new StepMetrics(true, 2);
+        for (String uniqueId : new String[]{"p1_a", "p1_b", "p1_c", "p1_d", "p1_a"}) {
+            metrics.stop(uniqueId, StepPhase.TOTAL, metrics.start());
+        }
+
+        Map<String, StepMetrics.ActionSnapshot> snapshot = metrics.snapshot();
+        assertEquals(Set.of("p1_a", "p1_b", StepMetrics.OTHER_ACTIONS), snapshot.keySet());
+        assertEquals(2, snapshot.get("p1_a").steps());
+        assertEquals(2, snapshot.get(StepMetrics.OTHER_ACTIONS).steps());
+    }
+
+    public void testDisabledMetricsRecordNothing() {
+        StepMetrics metrics = new StepMetrics(false);
+        metrics.stop("p1_a", StepPhase.TOTAL, metrics.start());
+        metrics.timeout("p1_a");
+
+        assertTrue(metrics.snapshot().isEmpty());
+    }
+}
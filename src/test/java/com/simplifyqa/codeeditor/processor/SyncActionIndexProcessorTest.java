@@ -0,0 +1,102 @@
+package com.simplifyqa.codeeditor.processor;
+
+import com.simplifyqa.codeeditor.helper.SyncActionIndex;
+import com.simplifyqa.codeeditor.helper.TestProjects;
+import junit.framework.TestCase;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class SyncActionIndexProcessorTest extends TestCase {
+    private Path dir;
+    private Path classes;
+
+    @Override
+    protected void setUp() throws Exception {
+        dir = Files.createTempDirectory("codeeditor-processor-test");
+        classes = dir.resolve("classes");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        TestProjects.delete(dir);
+    }
+
+    public void testIndexesEveryActionWithItsSignature() throws Exception {
+        compile(Map.of("com.simplifyqa.codeeditor.sample.Cart", actionClass("Cart",
+                action("add-item", "\"Cart\"", "public", "addItem(String name, int[] quantities, java.util.List<String> tags)")
+                        + action("clear-cart", null, "public", "clear()"))));
+
+        assertEquals(List.of(
+                new SyncActionIndex.Entry("add-item", "com.simplifyqa.codeeditor.sample.Cart", "addItem",
+                        List.of("java.lang.String", "int[]", "java.util.List"), "Cart", true),
+                new SyncActionIndex.Entry("clear-cart", "com.simplifyqa.codeeditor.sample.Cart", "clear",
+                        List.of(), "", true)), index());
+    }
+
+    public void testRejectsDuplicateIdsAndNonPublicActions() throws Exception {
+        TestProjects.Compilation duplicate = compile(Map.of(
+                "com.simplifyqa.codeeditor.sample.First", actionClass("First", action("same-id", null, "public", "first()")),
+                "com.simplifyqa.codeeditor.sample.Second", actionClass("Second", action("same-id", null, "public", "second()"))));
+        assertFalse(duplicate.success());
+        assertTrue(duplicate.output(), duplicate.output().contains("Duplicate @SyncAction uniqueId same-id"));
+
+        TestProjects.Compilation hidden = compile(Map.of(
+                "com.simplifyqa.codeeditor.sample.Hidden", actionClass("Hidden", action("hidden", null, "", "hidden()"))));
+        assertFalse(hidden.success());
+        assertTrue(hidden.output(), hidden.output().contains("must be public"));
+    }
+
+    public void testIncrementalBuildDropsRemovedActionsAndKeepsTheRest() throws Exception {
+        compile(Map.of(
+                "com.simplifyqa.codeeditor.sample.Kept", actionClass("Kept", action("kept", null, "public", "kept()")),
+                "com.simplifyqa.codeeditor.sample.Edited", actionClass("Edited", action("edited", null, "public", "edited()"))));
+        assertEquals(2, index().size());
+
+        TestProjects.Compilation edit = compile(Map.of("com.simplifyqa.codeeditor.sample.Edited",
+                "package com.simplifyqa.codeeditor.sample;\npublic class Edited {\n    public boolean edited() { return true; }\n}\n"));
+
+        assertTrue(edit.output(), edit.success());
+        List<SyncActionIndex.Entry> index = index();
+        assertEquals(1, index.size());
+        assertEquals("kept", index.get(0).uniqueId());
+    }
+
+    public void testIncrementalBuildReportsIdsTakenByUnchangedClasses() throws Exception {
+        compile(Map.of("com.simplifyqa.codeeditor.sample.Kept", actionClass("Kept", action("taken", null, "public", "kept()"))));
+
+        TestProjects.Compilation added = compile(Map.of(
+                "com.simplifyqa.codeeditor.sample.Added", actionClass("Added", action("taken", null, "public", "added()"))));
+
+        assertFalse(added.success());
+        assertTrue(added.output(), added.output().contains("Duplicate @SyncAction uniqueId taken"));
+    }
+
+    static String actionClass(String name, String methods) {
+        return "package com.simplifyqa.codeeditor.sample;\n"
+                + "import com.simplifyqa.pluginbase.codeeditor.annotations.SyncAction;\n"
+                + "import com.simplifyqa.pluginbase.common.enums.TechnologyType;\n"
+                + "import com.simplifyqa.pluginbase.plugin.annotations.ObjectTemplate;\n"
+                + "public class " + name + " {\n" + methods + "}\n";
+    }
+
+    static String action(String uniqueId, String groupName, String modifier, String signature) {
+        return "    @SyncAction(uniqueId = \"" + uniqueId + "\"" + (groupName == null ? "" : ", groupName = " + groupName)
+                + ", objectTemplate = @ObjectTemplate(name = TechnologyType.GENERIC), objectRequired = false)\n"
+                + "    " + modifier + " boolean " + signature + " { return true; }\n";
+    }
+
+    private TestProjects.Compilation compile(Map<String, String> sources) throws Exception {
+        return TestProjects.compile(dir, classes, sources,
+                "-processor", SyncActionIndexProcessor.class.getName(), "-processorpath", System.getProperty("java.class.path"));
+    }
+
+    private List<SyncActionIndex.Entry> index() throws Exception {
+        return Files.readAllLines(classes.resolve(SyncActionIndexProcessor.INDEX_LOCATION)).stream()
+                .filter(line -> !line.isBlank())
+                .map(SyncActionIndex.Entry::parse)
+                .toList();
+    }
+}